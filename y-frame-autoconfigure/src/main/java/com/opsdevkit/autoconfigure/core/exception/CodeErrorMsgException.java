@@ -19,25 +19,55 @@ package com.opsdevkit.autoconfigure.core.exception;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Objects;
+
 /**
  * CodeErrorMsgException
- * 带有异常code与msg映射关系的{@link CodeException}
+ * 带有异常code与msg映射关系的{@link CodeException}。
+ * 仅指定异常代码时，错误消息在首次调用{@link #getMessage()}时才通过{@link ErrorMsg}解析并缓存，
+ * 只按错误码处理而不读取消息的异常不承担映射查询的开销
  *
  * @author liyan
  * @since 2025/6/22 13:03
  */
 public class CodeErrorMsgException extends CodeException {
 
+    /**
+     * 默认的错误消息映射对象
+     */
+    private static final ErrorMsg DEFAULT_ERROR_MSG = code -> "-";
+
     // 静态变量，用于存储错误消息映射对象
-    private static ErrorMsg errorMsg = code -> "-";
+    private static volatile ErrorMsg errorMsg = DEFAULT_ERROR_MSG;
+
+    /**
+     * 创建异常时的错误消息映射对象，显式指定错误消息时为空
+     */
+    private final transient ErrorMsg messageSource;
+
+    /**
+     * 已解析的错误消息，并发调用时可能重复解析，但结果一致
+     */
+    private volatile String resolvedMessage;
 
     /**
      * 设置错误消息映射对象
      *
-     * @param errorMsg 错误消息映射对象
+     * @param errorMsg 错误消息映射对象，为空时恢复默认实现
      */
     public static void setErrorMsg(ErrorMsg errorMsg) {
-        CodeErrorMsgException.errorMsg = errorMsg;
+        CodeErrorMsgException.errorMsg = errorMsg == null ? DEFAULT_ERROR_MSG : errorMsg;
+    }
+
+    /**
+     * 获取当前的错误消息映射对象
+     *
+     * @return 错误消息映射对象
+     */
+    public static ErrorMsg getErrorMsg() {
+        return errorMsg;
     }
 
     /**
@@ -46,8 +76,9 @@ public class CodeErrorMsgException extends CodeException {
      * @param code 异常代码，不能为空
      */
     protected CodeErrorMsgException(@Nonnull Integer code) {
-        // 调用父类的构造函数，传入异常代码和对应的错误消息
-        super(code, errorMsg.getErrorMsg(code));
+        // 错误消息延迟到首次读取时解析
+        super(code, (String) null);
+        this.messageSource = errorMsg;
     }
 
     /**
@@ -58,6 +89,7 @@ public class CodeErrorMsgException extends CodeException {
      */
     protected CodeErrorMsgException(@Nonnull Integer code, @Nullable String msg) {
         super(code, msg);
+        this.messageSource = null;
     }
 
     /**
@@ -67,7 +99,8 @@ public class CodeErrorMsgException extends CodeException {
      * @param cause 引发该异常的原因
      */
     protected CodeErrorMsgException(@Nonnull Integer code, Throwable cause) {
-        super(code, errorMsg.getErrorMsg(code), cause);
+        super(code, null, cause);
+        this.messageSource = errorMsg;
     }
 
     /**
@@ -79,6 +112,84 @@ public class CodeErrorMsgException extends CodeException {
      */
     protected CodeErrorMsgException(@Nullable Integer code, @Nullable String msg, Throwable cause) {
         super(code, msg, cause);
+        this.messageSource = null;
+    }
+
+    /**
+     * 受保护的构造函数，用于创建可控制异常抑制与栈轨迹的 CodeErrorMsgException 实例，错误消息由异常代码映射得到。
+     *
+     * @param code               异常代码，不能为空
+     * @param enableSuppression  是否记录被抑制的异常
+     * @param writableStackTrace 是否填充栈轨迹
+     */
+    protected CodeErrorMsgException(@Nonnull Integer code, boolean enableSuppression, boolean writableStackTrace) {
+        super(code, null, null, enableSuppression, writableStackTrace);
+        this.messageSource = errorMsg;
+    }
+
+    /**
+     * 受保护的构造函数，用于创建可控制异常抑制与栈轨迹的 CodeErrorMsgException 实例。
+     *
+     * @param code               异常代码，可以为空
+     * @param msg                错误消息，可以为空
+     * @param cause              引发该异常的原因，可以为空
+     * @param enableSuppression  是否记录被抑制的异常
+     * @param writableStackTrace 是否填充栈轨迹
+     */
+    protected CodeErrorMsgException(@Nullable Integer code, @Nullable String msg, @Nullable Throwable cause,
+                                    boolean enableSuppression, boolean writableStackTrace) {
+        super(code, msg, cause, enableSuppression, writableStackTrace);
+        this.messageSource = null;
+    }
+
+    /**
+     * 错误消息是否由{@link ErrorMsg}根据异常代码映射得到，映射得到的消息只取决于异常代码与映射对象，可以按异常代码缓存
+     *
+     * @return 由映射得到时返回true，显式指定消息时返回false
+     */
+    public boolean isMappedMessage() {
+        return messageSource != null;
+    }
+
+    /**
+     * 获取错误消息，由异常代码映射的消息在首次调用时解析并缓存，映射结果为空时返回空字符串
+     *
+     * @return 错误消息
+     */
+    @Override
+    public String getMessage() {
+        String message = resolvedMessage;
+        if (message != null) {
+            return message;
+        }
+        ErrorMsg source = messageSource;
+        if (source == null) {
+            return super.getMessage();
+        }
+        message = Objects.requireNonNullElse(source.getErrorMsg(getCode()), "");
+        resolvedMessage = message;
+        return message;
+    }
+
+    /**
+     * 不经缓存解析错误消息：由异常代码映射的消息按当前的映射对象重新解析，显式指定的消息原样返回。
+     * 供跨线程共享的实例使用，使消息跟随调用方的区域与映射表的重新加载
+     *
+     * @return 错误消息
+     */
+    protected String resolveMessage() {
+        if (messageSource == null) {
+            return super.getMessage();
+        }
+        return Objects.requireNonNullElse(errorMsg.getErrorMsg(getCode()), "");
+    }
+
+    /**
+     * 序列化前解析错误消息，映射对象本身不参与序列化
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
     }
 
     /**
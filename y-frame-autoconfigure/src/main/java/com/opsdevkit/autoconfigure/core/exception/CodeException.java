@@ -21,7 +21,7 @@ import lombok.Getter;
 
 /**
  * CodeException
- * 带有异常编号的异常基类，继承于RuntimeException
+ * 带有异常编号的异常基类，继承于RuntimeException。创建时通知{@link CodeExceptionMetrics}按错误码计数
  *
  * @author liyan
  * @since 2025/6/22 11:47
@@ -50,10 +50,28 @@ public class CodeException extends RuntimeException {
     protected CodeException(Integer code, @Nullable String msg) {
         super(msg == null ? "" : msg);
         this.code = code == null ? DEFAULT_ERROR_CODE : code;
+        CodeExceptionMetrics.onCreate(this);
     }
 
     protected CodeException(@Nullable Integer code, @Nullable String msg, Throwable cause) {
         super(msg, cause);
         this.code = code == null ? DEFAULT_ERROR_CODE : code;
+        CodeExceptionMetrics.onCreate(this);
+    }
+
+    /**
+     * 可控制异常抑制与栈轨迹的构造函数，两者都关闭时创建的是不填充栈轨迹的轻量异常
+     *
+     * @param code               异常编码，为空时使用默认编码
+     * @param msg                错误消息
+     * @param cause              引发该异常的原因，轻量异常之后不能再通过initCause设置
+     * @param enableSuppression  是否记录被抑制的异常
+     * @param writableStackTrace 是否填充栈轨迹
+     */
+    protected CodeException(@Nullable Integer code, @Nullable String msg, @Nullable Throwable cause,
+                            boolean enableSuppression, boolean writableStackTrace) {
+        super(msg, cause, enableSuppression, writableStackTrace);
+        this.code = code == null ? DEFAULT_ERROR_CODE : code;
+        CodeExceptionMetrics.onCreate(this);
     }
 }
@@ -0,0 +1,306 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.exception;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * CodeExceptionMetrics
+ * 按错误码统计{@link CodeException}的创建次数，并按1/N的概率采样创建时的调用栈。
+ * <p>
+ * 计数使用分段的{@link LongAdder}，高并发下没有写竞争；采样概率由线程本地随机数决定，不需要共享状态。
+ * 采样时只遍历当前线程的调用栈并跳过异常类自身的构造帧，因此不填充栈轨迹的轻量异常与享元异常同样可以定位来源。
+ * 默认关闭，关闭时每次创建异常只多一次volatile读
+ *
+ * @author agent
+ * @since 2026/10/17 01:15
+ */
+public final class CodeExceptionMetrics {
+
+    /**
+     * 默认采样率，每100次采样1次
+     */
+    public static final int DEFAULT_SAMPLE_RATE = 100;
+
+    /**
+     * 每个错误码默认保留的采样数
+     */
+    public static final int DEFAULT_SAMPLE_CAPACITY = 10;
+
+    /**
+     * 默认采样栈深度
+     */
+    public static final int DEFAULT_MAX_STACK_DEPTH = 64;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final ConcurrentHashMap<Integer, CodeStats> STATS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+
+    private static volatile int sampleRate = DEFAULT_SAMPLE_RATE;
+
+    private static volatile int sampleCapacity = DEFAULT_SAMPLE_CAPACITY;
+
+    private static volatile int maxStackDepth = DEFAULT_MAX_STACK_DEPTH;
+
+    /**
+     * 首次出现新错误码时的回调，用于注册外部指标
+     */
+    private static final List<Consumer<CodeStats>> NEW_CODE_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private CodeExceptionMetrics() {
+    }
+
+    /**
+     * 开启或关闭统计，关闭后已有的统计数据保留
+     *
+     * @param enabled 是否开启
+     */
+    public static void setEnabled(boolean enabled) {
+        CodeExceptionMetrics.enabled = enabled;
+    }
+
+    /**
+     * 是否开启统计
+     *
+     * @return 开启时返回true
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 设置采样率，每个错误码平均每N次创建采样1次调用栈
+     *
+     * @param sampleRate 采样率N，0表示不采样
+     */
+    public static void setSampleRate(int sampleRate) {
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("sampleRate must not be negative");
+        }
+        CodeExceptionMetrics.sampleRate = sampleRate;
+    }
+
+    /**
+     * 设置每个错误码保留的最近采样数，只影响之后出现的错误码
+     *
+     * @param sampleCapacity 采样数，必须大于0
+     */
+    public static void setSampleCapacity(int sampleCapacity) {
+        if (sampleCapacity <= 0) {
+            throw new IllegalArgumentException("sampleCapacity must be greater than 0");
+        }
+        CodeExceptionMetrics.sampleCapacity = sampleCapacity;
+    }
+
+    /**
+     * 设置采样栈的最大深度
+     *
+     * @param maxStackDepth 最大深度，必须大于0
+     */
+    public static void setMaxStackDepth(int maxStackDepth) {
+        if (maxStackDepth <= 0) {
+            throw new IllegalArgumentException("maxStackDepth must be greater than 0");
+        }
+        CodeExceptionMetrics.maxStackDepth = maxStackDepth;
+    }
+
+    /**
+     * 添加首次出现新错误码时的回调，添加时对已有的错误码立即回调一次。
+     * 与添加并发出现的错误码可能被回调两次，回调需要幂等
+     *
+     * @param listener 回调
+     */
+    public static synchronized void addNewCodeListener(Consumer<CodeStats> listener) {
+        NEW_CODE_LISTENERS.add(listener);
+        STATS.values().forEach(listener);
+    }
+
+    /**
+     * 移除由{@link #addNewCodeListener(Consumer)}添加的回调
+     *
+     * @param listener 回调
+     */
+    public static void removeNewCodeListener(Consumer<CodeStats> listener) {
+        NEW_CODE_LISTENERS.remove(listener);
+    }
+
+    /**
+     * 获取错误码的统计
+     *
+     * @param code 错误码
+     * @return 统计，尚未出现时返回null
+     */
+    public static CodeStats get(int code) {
+        return STATS.get(code);
+    }
+
+    /**
+     * 获取全部错误码的统计
+     *
+     * @return 统计集合的只读视图
+     */
+    public static Collection<CodeStats> getAll() {
+        return Collections.unmodifiableCollection(STATS.values());
+    }
+
+    /**
+     * 清除全部统计数据
+     */
+    public static void reset() {
+        STATS.clear();
+    }
+
+    /**
+     * 异常创建时由{@link CodeException}调用，享元共享实例只在被取用时统计
+     *
+     * @param exception 新创建的异常
+     */
+    static void onCreate(CodeException exception) {
+        if (enabled && !(exception instanceof FlyweightExceptions.SharedServiceException)) {
+            record(exception);
+        }
+    }
+
+    /**
+     * 记录一次异常
+     *
+     * @param exception 异常
+     */
+    static void record(CodeException exception) {
+        if (!enabled) {
+            return;
+        }
+        CodeStats stats = STATS.get(exception.getCode());
+        if (stats == null) {
+            stats = stats(exception.getCode());
+        }
+        stats.count.increment();
+        int rate = sampleRate;
+        if (rate > 0 && (rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0)) {
+            stats.addSample(new Sample(System.currentTimeMillis(), Thread.currentThread().getName(),
+                    exception.getClass().getName(), captureStack()));
+        }
+    }
+
+    private static CodeStats stats(Integer code) {
+        boolean[] created = new boolean[1];
+        CodeStats stats = STATS.computeIfAbsent(code, key -> {
+            created[0] = true;
+            return new CodeStats(key, sampleCapacity);
+        });
+        if (created[0]) {
+            for (Consumer<CodeStats> listener : NEW_CODE_LISTENERS) {
+                listener.accept(stats);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * 采集当前线程的调用栈，跳过统计类与异常类自身的帧
+     */
+    private static StackTraceElement[] captureStack() {
+        int depth = maxStackDepth;
+        return STACK_WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getDeclaringClass() == CodeExceptionMetrics.class
+                        || CodeException.class.isAssignableFrom(frame.getDeclaringClass()))
+                .limit(depth)
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .toArray(StackTraceElement[]::new));
+    }
+
+    /**
+     * 单个错误码的统计
+     */
+    public static final class CodeStats {
+
+        /**
+         * 错误码
+         */
+        @Getter
+        private final int code;
+
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * 最近的采样，环形写入
+         */
+        private final AtomicReferenceArray<Sample> samples;
+
+        private final AtomicLong sampleIndex = new AtomicLong();
+
+        private CodeStats(int code, int capacity) {
+            this.code = code;
+            this.samples = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * 累计次数
+         *
+         * @return 次数
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * 最近的采样，按时间从早到晚排列
+         *
+         * @return 采样列表
+         */
+        public List<Sample> getSamples() {
+            List<Sample> result = new ArrayList<>(samples.length());
+            for (int i = 0; i < samples.length(); i++) {
+                Sample sample = samples.get(i);
+                if (sample != null) {
+                    result.add(sample);
+                }
+            }
+            result.sort((a, b) -> Long.compare(a.timestamp(), b.timestamp()));
+            return result;
+        }
+
+        private void addSample(Sample sample) {
+            samples.set((int) (sampleIndex.getAndIncrement() % samples.length()), sample);
+        }
+    }
+
+    /**
+     * 一次采样
+     *
+     * @param timestamp      采样时间（毫秒）
+     * @param thread         线程名
+     * @param exceptionClass 异常类名
+     * @param stackTrace     创建异常时的调用栈
+     */
+    public record Sample(long timestamp, String thread, String exceptionClass, StackTraceElement[] stackTrace) {
+    }
+}
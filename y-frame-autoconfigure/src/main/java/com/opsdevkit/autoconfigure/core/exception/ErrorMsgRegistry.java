@@ -0,0 +1,418 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.exception;
+
+import lombok.Getter;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ErrorMsgRegistry
+ * 基于资源文件的{@link CodeErrorMsgException.ErrorMsg}实现，从properties或YAML文件加载错误码与错误消息的映射。
+ * <p>
+ * 文件名按ResourceBundle的约定携带区域后缀，如error-msg.yml、error-msg_en.yml、error-msg_zh_CN.properties，
+ * 无后缀的文件为默认消息。查询时依次匹配完整区域、语言与默认消息，各区域的映射表在加载时预先合并，
+ * 查询只需一次哈希表定位，不装箱也不分配对象。
+ * <p>
+ * 重新加载在新的映射表上完成，之后以一次volatile写整体替换，读取方无需加锁，也不会看到加载到一半的映射表。
+ * 调用{@link #watch()}后，文件系统中的资源被修改时自动重新加载，生产环境建议以写临时文件再原子重命名的方式更新资源。
+ *
+ * @author agent
+ * @since 2026/10/17 01:10
+ */
+public final class ErrorMsgRegistry implements CodeErrorMsgException.ErrorMsg, Closeable {
+
+    /**
+     * 类路径资源前缀
+     */
+    public static final String CLASSPATH_PREFIX = "classpath:";
+
+    /**
+     * 文件资源前缀
+     */
+    public static final String FILE_PREFIX = "file:";
+
+    /**
+     * 默认的未知错误码消息，与CodeErrorMsgException的默认实现一致
+     */
+    public static final String DEFAULT_MESSAGE = "-";
+
+    /**
+     * 文件修改后等待写入平静的时间（毫秒）
+     */
+    private static final long SETTLE_MILLIS = 200;
+
+    /**
+     * 首个事件后最长等待时间（毫秒），文件被持续写入时到期即重新加载，其余事件留到下一轮
+     */
+    private static final long MAX_SETTLE_MILLIS = 2000;
+
+    private static final System.Logger LOGGER = System.getLogger(ErrorMsgRegistry.class.getName());
+
+    /**
+     * 文件名中的区域后缀，语言为两个小写字母，国家为两个大写字母
+     */
+    private static final Pattern LOCALE_SUFFIX = Pattern.compile("_([a-z]{2})(?:_([A-Z]{2}))?$");
+
+    /**
+     * 资源位置
+     */
+    @Getter
+    private final List<String> locations;
+
+    /**
+     * 未配置错误码时返回的消息
+     */
+    @Getter
+    private final String defaultMessage;
+
+    /**
+     * 通过{@link #getErrorMsg(Integer)}查询时使用的区域
+     */
+    private volatile Supplier<Locale> localeResolver = Locale::getDefault;
+
+    private volatile Tables tables;
+
+    private WatchService watchService;
+
+    private ErrorMsgRegistry(List<String> locations, String defaultMessage) {
+        this.locations = List.copyOf(locations);
+        this.defaultMessage = defaultMessage;
+        this.tables = load(this.locations);
+    }
+
+    /**
+     * 从资源位置加载映射
+     *
+     * @param locations 资源位置，以classpath:开头的为类路径资源，否则为文件路径
+     * @return 注册表
+     */
+    public static ErrorMsgRegistry of(List<String> locations) {
+        return of(locations, DEFAULT_MESSAGE);
+    }
+
+    /**
+     * 从资源位置加载映射
+     *
+     * @param locations      资源位置，以classpath:开头的为类路径资源，否则为文件路径
+     * @param defaultMessage 未配置错误码时返回的消息
+     * @return 注册表
+     */
+    public static ErrorMsgRegistry of(List<String> locations, String defaultMessage) {
+        return new ErrorMsgRegistry(locations, defaultMessage);
+    }
+
+    /**
+     * 将本注册表设置为{@link CodeErrorMsgException}的错误消息映射
+     *
+     * @return 注册表
+     */
+    public ErrorMsgRegistry install() {
+        CodeErrorMsgException.setErrorMsg(this);
+        return this;
+    }
+
+    /**
+     * 设置通过{@link #getErrorMsg(Integer)}查询时使用的区域，默认为JVM默认区域
+     *
+     * @param localeResolver 区域提供者
+     */
+    public void setLocaleResolver(Supplier<Locale> localeResolver) {
+        this.localeResolver = localeResolver;
+    }
+
+    @Override
+    public String getErrorMsg(Integer code) {
+        if (code == null) {
+            return defaultMessage;
+        }
+        String message = get(code, localeResolver.get());
+        return message == null ? defaultMessage : message;
+    }
+
+    /**
+     * 按默认消息查询
+     *
+     * @param code 错误码
+     * @return 错误消息，未配置时返回null
+     */
+    public String get(int code) {
+        return tables.root.get(code);
+    }
+
+    /**
+     * 按区域查询，依次匹配完整区域、语言与默认消息
+     *
+     * @param code   错误码
+     * @param locale 区域，可以为空
+     * @return 错误消息，未配置时返回null
+     */
+    public String get(int code, Locale locale) {
+        Tables current = tables;
+        if (locale == null) {
+            return current.root.get(code);
+        }
+        IntStringMap table = current.byLocale.get(locale);
+        if (table == null) {
+            table = current.byLanguage.get(locale.getLanguage());
+            if (table == null) {
+                table = current.root;
+            }
+        }
+        return table.get(code);
+    }
+
+    /**
+     * 已加载的区域，不含默认消息
+     *
+     * @return 区域集合
+     */
+    public Set<Locale> getLocales() {
+        return tables.byLocale.keySet();
+    }
+
+    /**
+     * 重新加载全部资源并整体替换映射表，加载失败时保留原映射表并抛出异常
+     */
+    public void reload() {
+        this.tables = load(locations);
+    }
+
+    /**
+     * 监听文件系统中的资源，文件被修改或替换时自动重新加载。重新加载失败时保留原映射表。
+     * 类路径资源不参与监听，重复调用无副作用
+     *
+     * @return 注册表
+     */
+    public synchronized ErrorMsgRegistry watch() {
+        if (watchService != null) {
+            return this;
+        }
+        Map<Path, Set<Path>> directories = new HashMap<>();
+        for (String location : locations) {
+            if (!location.startsWith(CLASSPATH_PREFIX)) {
+                Path file = toPath(location).toAbsolutePath();
+                directories.computeIfAbsent(file.getParent(), key -> new HashSet<>()).add(file.getFileName());
+            }
+        }
+        if (directories.isEmpty()) {
+            return this;
+        }
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories.keySet()) {
+                directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+            this.watchService = service;
+            Thread thread = new Thread(() -> watchLoop(service, directories), "error-msg-registry-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        } catch (IOException e) {
+            throw ServiceException.of(CodeException.DEFAULT_ERROR_CODE, "Failed to watch error message resources", e);
+        }
+        return this;
+    }
+
+    /**
+     * 停止监听
+     */
+    @Override
+    public synchronized void close() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+            // 监听线程随WatchService关闭而退出
+        }
+        watchService = null;
+    }
+
+    private void watchLoop(WatchService service, Map<Path, Set<Path>> directories) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_SETTLE_MILLIS);
+                // 非原子写入会产生多个事件，等待写入平静后只重新加载一次，避免读到写了一半的文件
+                while (key != null) {
+                    Set<Path> files = directories.get((Path) key.watchable());
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof Path name && files != null && files.contains(name)) {
+                            changed = true;
+                        }
+                    }
+                    key.reset();
+                    long remaining = deadline - System.nanoTime();
+                    key = remaining > 0
+                            ? service.poll(Math.min(TimeUnit.MILLISECONDS.toNanos(SETTLE_MILLIS), remaining), TimeUnit.NANOSECONDS)
+                            : null;
+                }
+                if (changed) {
+                    try {
+                        reload();
+                    } catch (RuntimeException e) {
+                        LOGGER.log(System.Logger.Level.WARNING, "Failed to reload error messages, keeping previous ones", e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+            // 注册表已关闭
+        }
+    }
+
+    /**
+     * 加载全部资源，构建各区域预先合并的映射表
+     */
+    private static Tables load(List<String> locations) {
+        Map<Locale, Map<Integer, String>> raw = new LinkedHashMap<>();
+        for (String location : locations) {
+            raw.computeIfAbsent(localeOf(location), key -> new HashMap<>()).putAll(read(location));
+        }
+        Map<Integer, String> rootEntries = raw.getOrDefault(Locale.ROOT, Map.of());
+        Map<Locale, IntStringMap> byLocale = new HashMap<>();
+        Map<String, IntStringMap> byLanguage = new HashMap<>();
+        for (Map.Entry<Locale, Map<Integer, String>> entry : raw.entrySet()) {
+            Locale locale = entry.getKey();
+            if (locale.equals(Locale.ROOT)) {
+                continue;
+            }
+            Map<Integer, String> merged = new HashMap<>(rootEntries);
+            if (!locale.getCountry().isEmpty()) {
+                merged.putAll(raw.getOrDefault(new Locale(locale.getLanguage()), Map.of()));
+            }
+            merged.putAll(entry.getValue());
+            IntStringMap table = new IntStringMap(merged);
+            byLocale.put(locale, table);
+            if (locale.getCountry().isEmpty()) {
+                byLanguage.put(locale.getLanguage(), table);
+            }
+        }
+        return new Tables(new IntStringMap(rootEntries), Map.copyOf(byLocale), Map.copyOf(byLanguage));
+    }
+
+    /**
+     * 从文件名解析区域
+     */
+    private static Locale localeOf(String location) {
+        String name = location.substring(location.lastIndexOf('/') + 1);
+        int dot = name.lastIndexOf('.');
+        Matcher matcher = LOCALE_SUFFIX.matcher(dot < 0 ? name : name.substring(0, dot));
+        if (!matcher.find()) {
+            return Locale.ROOT;
+        }
+        return matcher.group(2) == null ? new Locale(matcher.group(1)) : new Locale(matcher.group(1), matcher.group(2));
+    }
+
+    /**
+     * 读取单个资源
+     */
+    private static Map<Integer, String> read(String location) {
+        try (InputStream in = open(location);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            Map<?, ?> content;
+            if (location.endsWith(".yml") || location.endsWith(".yaml")) {
+                Object document = new Yaml(new SafeConstructor(new LoaderOptions())).load(reader);
+                content = document == null ? Map.of() : (Map<?, ?>) document;
+            } else {
+                Properties properties = new Properties();
+                properties.load(reader);
+                content = properties;
+            }
+            Map<Integer, String> entries = new HashMap<>(content.size() * 2);
+            for (Map.Entry<?, ?> entry : content.entrySet()) {
+                entries.put(parseCode(location, entry.getKey()), String.valueOf(entry.getValue()));
+            }
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            throw ServiceException.of(CodeException.DEFAULT_ERROR_CODE, "Failed to load error messages from " + location, e);
+        }
+    }
+
+    private static int parseCode(String location, Object key) {
+        if (key instanceof Integer code) {
+            return code;
+        }
+        try {
+            return Integer.parseInt(String.valueOf(key).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid error code '" + key + "' in " + location, e);
+        }
+    }
+
+    private static InputStream open(String location) throws IOException {
+        if (location.startsWith(CLASSPATH_PREFIX)) {
+            String resource = location.substring(CLASSPATH_PREFIX.length());
+            resource = resource.startsWith("/") ? resource.substring(1) : resource;
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            InputStream in = (classLoader != null ? classLoader : ErrorMsgRegistry.class.getClassLoader())
+                    .getResourceAsStream(resource);
+            if (in == null) {
+                throw new IOException("Resource not found: " + location);
+            }
+            return in;
+        }
+        return Files.newInputStream(toPath(location));
+    }
+
+    private static Path toPath(String location) {
+        return Paths.get(location.startsWith(FILE_PREFIX) ? location.substring(FILE_PREFIX.length()) : location);
+    }
+
+    /**
+     * 一次加载得到的全部映射表
+     *
+     * @param root       默认消息
+     * @param byLocale   各区域合并后的映射表
+     * @param byLanguage 仅含语言的区域的映射表，按语言查找
+     */
+    private record Tables(IntStringMap root, Map<Locale, IntStringMap> byLocale, Map<String, IntStringMap> byLanguage) {
+    }
+}
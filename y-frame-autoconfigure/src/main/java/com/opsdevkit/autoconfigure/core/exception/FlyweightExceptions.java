@@ -0,0 +1,112 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.exception;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * FlyweightExceptions
+ * 高频错误码的共享ServiceException实例。对声明为享元的错误码，{@link ServiceException#of(Integer)}
+ * 直接返回预先创建的实例，不再为每次失败分配异常对象。
+ * <p>
+ * 共享实例不填充栈轨迹，{@code addSuppressed}与{@code setStackTrace}不产生任何效果，{@code initCause}抛出异常，
+ * 因此可以在线程间安全共享。错误消息不缓存，每次读取时按当前的错误消息映射解析，
+ * 随调用方的区域与映射表的重新加载而变化。映射表以不可变副本整体替换，查询无锁
+ *
+ * @author agent
+ * @since 2026/10/17 01:12
+ */
+public final class FlyweightExceptions {
+
+    private static volatile Map<Integer, ServiceException> instances = Map.of();
+
+    private FlyweightExceptions() {
+    }
+
+    /**
+     * 获取错误码对应的共享实例
+     *
+     * @param code 错误码，可以为空
+     * @return 共享实例，未声明为享元时返回null
+     */
+    public static ServiceException get(Integer code) {
+        return code == null ? null : instances.get(code);
+    }
+
+    /**
+     * 判断错误码是否声明为享元
+     *
+     * @param code 错误码，可以为空
+     * @return 已声明时返回true
+     */
+    public static boolean contains(Integer code) {
+        return get(code) != null;
+    }
+
+    /**
+     * 将错误码声明为享元，已声明的错误码会重新创建实例
+     *
+     * @param codes 错误码
+     */
+    public static synchronized void register(Collection<Integer> codes) {
+        Map<Integer, ServiceException> next = new HashMap<>(instances);
+        for (Integer code : codes) {
+            next.put(code, new SharedServiceException(code));
+        }
+        instances = Map.copyOf(next);
+    }
+
+    /**
+     * 取消错误码的享元声明
+     *
+     * @param codes 错误码
+     */
+    public static synchronized void unregister(Collection<Integer> codes) {
+        Map<Integer, ServiceException> next = new HashMap<>(instances);
+        codes.forEach(next::remove);
+        instances = Map.copyOf(next);
+    }
+
+    /**
+     * 清除全部享元声明
+     */
+    public static synchronized void clear() {
+        instances = Map.of();
+    }
+
+    /**
+     * 不可变的共享实例
+     */
+    static final class SharedServiceException extends ServiceException {
+
+        SharedServiceException(Integer code) {
+            super(code, false, false);
+        }
+
+        @Override
+        public String getMessage() {
+            return resolveMessage();
+        }
+
+        @Override
+        public synchronized Throwable initCause(Throwable cause) {
+            throw new IllegalStateException("Shared ServiceException instance of code " + getCode() + " is immutable");
+        }
+    }
+}
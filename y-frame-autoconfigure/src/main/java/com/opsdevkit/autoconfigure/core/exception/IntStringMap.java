@@ -0,0 +1,104 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.exception;
+
+import java.util.Map;
+
+/**
+ * IntStringMap
+ * 以int为键的只读开放寻址哈希表，线性探测，查询过程不装箱也不分配对象。构建后不可变，可在线程间安全共享
+ *
+ * @author agent
+ * @since 2026/10/17 01:10
+ */
+final class IntStringMap {
+
+    static final IntStringMap EMPTY = new IntStringMap(Map.of());
+
+    private final int[] keys;
+
+    /**
+     * 与keys一一对应的值，null表示空槽位
+     */
+    private final String[] values;
+
+    private final int mask;
+
+    private final int size;
+
+    /**
+     * 以映射表的内容构建，null值的条目被忽略
+     *
+     * @param entries 映射表
+     */
+    IntStringMap(Map<Integer, String> entries) {
+        // 装载因子不超过0.5，保证探测链较短
+        int capacity = Integer.highestOneBit(Math.max(2, entries.size() * 2 - 1)) << 1;
+        this.keys = new int[capacity];
+        this.values = new String[capacity];
+        this.mask = capacity - 1;
+        int count = 0;
+        for (Map.Entry<Integer, String> entry : entries.entrySet()) {
+            if (entry.getValue() == null) {
+                continue;
+            }
+            int key = entry.getKey();
+            int index = index(key);
+            while (values[index] != null && keys[index] != key) {
+                index = (index + 1) & mask;
+            }
+            if (values[index] == null) {
+                count++;
+            }
+            keys[index] = key;
+            values[index] = entry.getValue();
+        }
+        this.size = count;
+    }
+
+    /**
+     * 查询键对应的值
+     *
+     * @param key 键
+     * @return 值，不存在时返回null
+     */
+    String get(int key) {
+        int index = index(key);
+        String value;
+        while ((value = values[index]) != null) {
+            if (keys[index] == key) {
+                return value;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * 条目数
+     *
+     * @return 条目数
+     */
+    int size() {
+        return size;
+    }
+
+    private int index(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -39,14 +39,28 @@ public class ServiceException extends CodeErrorMsgException {
         super(code, msg, cause);
     }
 
+    protected ServiceException(Integer code, boolean enableSuppression, boolean writableStackTrace) {
+        super(code, enableSuppression, writableStackTrace);
+    }
+
+    protected ServiceException(Integer code, String msg, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(code, msg, cause, enableSuppression, writableStackTrace);
+    }
+
     /**
-     * 创建仅包含错误码的 ServiceException 实例
+     * 创建仅包含错误码的 ServiceException 实例。错误码声明为{@link FlyweightExceptions 享元}时返回共享实例，
+     * 落在{@link StacklessCodes}配置的范围内时创建轻量实例
      *
      * @param code 错误码
      * @return ServiceException 实例
      */
     public static ServiceException of(Integer code) {
-        return new ServiceException(code);
+        ServiceException shared = FlyweightExceptions.get(code);
+        if (shared != null) {
+            CodeExceptionMetrics.record(shared);
+            return shared;
+        }
+        return StacklessCodes.contains(code) ? lightweight(code) : new ServiceException(code);
     }
 
     /**
@@ -61,14 +75,14 @@ public class ServiceException extends CodeErrorMsgException {
     }
 
     /**
-     * 创建包含错误码和错误信息的 ServiceException 实例
+     * 创建包含错误码和错误信息的 ServiceException 实例，错误码落在{@link StacklessCodes}配置的范围内时创建轻量实例
      *
      * @param code 错误码
      * @param msg  错误信息
      * @return ServiceException 实例
      */
     public static ServiceException of(Integer code, String msg) {
-        return new ServiceException(code, msg);
+        return StacklessCodes.contains(code) ? lightweight(code, msg) : new ServiceException(code, msg);
     }
 
     /**
@@ -82,5 +96,26 @@ public class ServiceException extends CodeErrorMsgException {
     public static ServiceException of(Integer code, String msg, Throwable cause) {
         return new ServiceException(code, msg, cause);
     }
-}
 
+    /**
+     * 创建仅包含错误码的轻量 ServiceException 实例，不填充栈轨迹也不记录被抑制的异常，
+     * 适用于可预期的业务校验失败等高频场景
+     *
+     * @param code 错误码
+     * @return ServiceException 实例
+     */
+    public static ServiceException lightweight(Integer code) {
+        return new ServiceException(code, false, false);
+    }
+
+    /**
+     * 创建包含错误码和错误信息的轻量 ServiceException 实例，不填充栈轨迹也不记录被抑制的异常
+     *
+     * @param code 错误码
+     * @param msg  错误信息
+     * @return ServiceException 实例
+     */
+    public static ServiceException lightweight(Integer code, String msg) {
+        return new ServiceException(code, msg == null ? "" : msg, null, false, false);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.exception;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * StacklessCodes
+ * 创建轻量异常（不填充栈轨迹、不记录被抑制的异常）的错误码范围。
+ * {@link ServiceException#of(Integer)}与{@link ServiceException#of(Integer, String)}对范围内的错误码创建轻量实例；
+ * 带有异常原因的工厂方法始终保留完整栈轨迹。范围以不可变数组整体替换，查询无锁
+ *
+ * @author agent
+ * @since 2026/10/17 01:07
+ */
+public final class StacklessCodes {
+
+    private static final int[] EMPTY = new int[0];
+
+    /**
+     * 按起点排序且互不重叠的闭区间，依次存放起点与终点
+     */
+    private static volatile int[] ranges = EMPTY;
+
+    private StacklessCodes() {
+    }
+
+    /**
+     * 判断错误码是否落在配置的范围内
+     *
+     * @param code 错误码，可以为空
+     * @return 落在范围内时返回true
+     */
+    public static boolean contains(Integer code) {
+        int[] current = ranges;
+        if (code == null || current.length == 0) {
+            return false;
+        }
+        int value = code;
+        int low = 0;
+        int high = current.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (value < current[mid * 2]) {
+                high = mid - 1;
+            } else if (value > current[mid * 2 + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 以给定范围替换当前配置
+     *
+     * @param specs 范围描述，单个错误码（如"404"）或闭区间（如"200000-299999"）
+     */
+    public static synchronized void setRanges(Collection<String> specs) {
+        List<int[]> parsed = new ArrayList<>(specs.size());
+        for (String spec : specs) {
+            parsed.add(parse(spec));
+        }
+        ranges = merge(parsed);
+    }
+
+    /**
+     * 追加一个闭区间
+     *
+     * @param from 起始错误码（含）
+     * @param to   结束错误码（含）
+     */
+    public static synchronized void add(int from, int to) {
+        if (from > to) {
+            throw new IllegalArgumentException("Invalid code range: " + from + "-" + to);
+        }
+        int[] current = ranges;
+        List<int[]> all = new ArrayList<>(current.length / 2 + 1);
+        for (int i = 0; i < current.length; i += 2) {
+            all.add(new int[]{current[i], current[i + 1]});
+        }
+        all.add(new int[]{from, to});
+        ranges = merge(all);
+    }
+
+    /**
+     * 清除全部范围
+     */
+    public static synchronized void clear() {
+        ranges = EMPTY;
+    }
+
+    /**
+     * 解析单个范围描述
+     *
+     * @param spec 范围描述
+     * @return 起点与终点
+     */
+    private static int[] parse(String spec) {
+        String text = spec.trim();
+        int dash = text.indexOf('-', 1);
+        try {
+            int from = Integer.parseInt((dash < 0 ? text : text.substring(0, dash)).trim());
+            int to = dash < 0 ? from : Integer.parseInt(text.substring(dash + 1).trim());
+            if (from > to) {
+                throw new IllegalArgumentException("Invalid code range: " + spec);
+            }
+            return new int[]{from, to};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid code range: " + spec, e);
+        }
+    }
+
+    /**
+     * 排序并合并重叠或相邻的区间
+     *
+     * @param parsed 区间列表
+     * @return 扁平化的区间数组
+     */
+    private static int[] merge(List<int[]> parsed) {
+        parsed.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] result = new int[parsed.size() * 2];
+        int size = 0;
+        for (int[] range : parsed) {
+            if (size > 0 && (long) range[0] <= (long) result[size - 1] + 1) {
+                result[size - 1] = Math.max(result[size - 1], range[1]);
+            } else {
+                result[size++] = range[0];
+                result[size++] = range[1];
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CompactJsonReader
+ * 直接从token流构建{@link CompactMap}树：对象读取为CompactMap，数组读取为只读List，
+ * 数值按解析器报告的类型存放，并与{@link JacksonUtils#fromMap(Object)}一样遵循USE_BIG_DECIMAL_FOR_FLOATS、
+ * USE_LONG_FOR_INTS与USE_BIG_INTEGER_FOR_INTS特性，值的类型与其一致
+ *
+ * @author agent
+ * @since 2026/10/17 01:23
+ */
+final class CompactJsonReader {
+
+    private final boolean bigDecimalForFloats;
+    private final boolean longForInts;
+    private final boolean bigIntegerForInts;
+
+    /**
+     * 创建读取器
+     *
+     * @param bigDecimalForFloats 浮点数是否读取为BigDecimal
+     * @param longForInts         整数是否一律读取为Long
+     * @param bigIntegerForInts   整数是否一律读取为BigInteger，优先于longForInts
+     */
+    CompactJsonReader(boolean bigDecimalForFloats, boolean longForInts, boolean bigIntegerForInts) {
+        this.bigDecimalForFloats = bigDecimalForFloats;
+        this.longForInts = longForInts;
+        this.bigIntegerForInts = bigIntegerForInts;
+    }
+
+    /**
+     * 按ObjectMapper的反序列化特性创建读取器
+     *
+     * @param config 反序列化配置
+     * @return 读取器
+     */
+    static CompactJsonReader of(DeserializationConfig config) {
+        return new CompactJsonReader(config.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS),
+                config.isEnabled(DeserializationFeature.USE_LONG_FOR_INTS),
+                config.isEnabled(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS));
+    }
+
+    /**
+     * 读取顶层对象
+     *
+     * @param parser 尚未读取任何token的解析器
+     * @return 对象，顶层为null时返回null
+     * @throws IOException 读取失败或顶层不是对象时抛出
+     */
+    CompactMap readMap(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(parser, CompactMap.class, "Expected JSON Object but found " + token);
+        }
+        return object(parser);
+    }
+
+    /**
+     * 读取顶层数组，元素必须为对象或null
+     *
+     * @param parser 尚未读取任何token的解析器
+     * @return 只读列表，顶层为null时返回null
+     * @throws IOException 读取失败或结构不符时抛出
+     */
+    List<CompactMap> readListMap(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw MismatchedInputException.from(parser, List.class, "Expected JSON Array but found " + token);
+        }
+        List<CompactMap> list = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NULL) {
+                list.add(null);
+            } else if (token == JsonToken.START_OBJECT) {
+                list.add(object(parser));
+            } else {
+                throw MismatchedInputException.from(parser, CompactMap.class, "Expected JSON Object but found " + token);
+            }
+        }
+        return freeze(list);
+    }
+
+    private CompactMap object(JsonParser parser) throws IOException {
+        String[] keys = new String[8];
+        byte[] kinds = new byte[8];
+        long[] primitives = new long[8];
+        Object[] references = new Object[8];
+        int size = 0;
+        // 键较多时改用哈希索引检测重复的键，避免逐个比较之前的全部键
+        Map<String, Integer> keyIndex = null;
+        String key;
+        while ((key = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            int index;
+            if (keyIndex != null) {
+                Integer existing = keyIndex.putIfAbsent(key, size);
+                index = existing == null ? -1 : existing;
+            } else {
+                index = indexOf(keys, size, key);
+                if (index < 0 && size == CompactMap.Shape.LINEAR_SCAN_LIMIT) {
+                    keyIndex = new HashMap<>(size * 4);
+                    for (int i = 0; i < size; i++) {
+                        keyIndex.put(keys[i], i);
+                    }
+                    keyIndex.put(key, size);
+                }
+            }
+            if (index < 0) {
+                if (size == keys.length) {
+                    int capacity = size * 2;
+                    keys = Arrays.copyOf(keys, capacity);
+                    kinds = Arrays.copyOf(kinds, capacity);
+                    primitives = Arrays.copyOf(primitives, capacity);
+                    references = Arrays.copyOf(references, capacity);
+                }
+                index = size++;
+                keys[index] = key;
+            }
+            // 重复的键以最后一次出现的值为准，与LinkedHashMap一致
+            references[index] = null;
+            primitives[index] = 0;
+            switch (token) {
+                case VALUE_NUMBER_INT -> {
+                    switch (integerType(parser)) {
+                        case INT -> {
+                            kinds[index] = CompactMap.INT;
+                            primitives[index] = parser.getIntValue();
+                        }
+                        case LONG -> {
+                            kinds[index] = CompactMap.LONG;
+                            primitives[index] = parser.getLongValue();
+                        }
+                        default -> {
+                            kinds[index] = CompactMap.REFERENCE;
+                            references[index] = parser.getBigIntegerValue();
+                        }
+                    }
+                }
+                case VALUE_NUMBER_FLOAT -> {
+                    if (bigDecimalForFloats) {
+                        kinds[index] = CompactMap.REFERENCE;
+                        references[index] = parser.getDecimalValue();
+                    } else {
+                        kinds[index] = CompactMap.DOUBLE;
+                        primitives[index] = Double.doubleToRawLongBits(parser.getDoubleValue());
+                    }
+                }
+                case VALUE_TRUE, VALUE_FALSE -> {
+                    kinds[index] = CompactMap.BOOLEAN;
+                    primitives[index] = token == JsonToken.VALUE_TRUE ? 1 : 0;
+                }
+                case VALUE_NULL -> kinds[index] = CompactMap.NULL;
+                default -> {
+                    kinds[index] = CompactMap.REFERENCE;
+                    references[index] = value(parser, token);
+                }
+            }
+        }
+        return CompactMap.of(keys, kinds, primitives, references, size);
+    }
+
+    /**
+     * 读取数组元素或引用类型的字段值
+     */
+    private Object value(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case START_OBJECT -> object(parser);
+            case START_ARRAY -> array(parser);
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> switch (integerType(parser)) {
+                case INT -> parser.getIntValue();
+                case LONG -> parser.getLongValue();
+                default -> parser.getBigIntegerValue();
+            };
+            case VALUE_NUMBER_FLOAT -> bigDecimalForFloats ? parser.getDecimalValue() : parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+            default -> throw MismatchedInputException.from(parser, Object.class, "Unexpected token " + token);
+        };
+    }
+
+    /**
+     * 整数的存放类型，与Jackson的无类型反序列化一致：USE_BIG_INTEGER_FOR_INTS时一律为BigInteger，
+     * USE_LONG_FOR_INTS时一律为long（超出long范围时读取失败），否则为解析器报告的类型
+     */
+    private JsonParser.NumberType integerType(JsonParser parser) throws IOException {
+        if (bigIntegerForInts) {
+            return JsonParser.NumberType.BIG_INTEGER;
+        }
+        return longForInts ? JsonParser.NumberType.LONG : parser.getNumberType();
+    }
+
+    private List<Object> array(JsonParser parser) throws IOException {
+        List<Object> list = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            list.add(value(parser, token));
+        }
+        return freeze(list);
+    }
+
+    private static <T> List<T> freeze(List<T> list) {
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ((ArrayList<T>) list).trimToSize();
+        return Collections.unmodifiableList(list);
+    }
+
+    private static int indexOf(String[] keys, int size, String key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CompactMap
+ * 紧凑的只读Map，用于大量结构相似的小型JSON对象常驻内存的场景。
+ * <p>
+ * 键的顺序与各值的存储类型构成对象的“形状”，相同形状的Map共享一份形状（键数组与查找索引），键字符串全局驻留；
+ * 每个Map只保存一个long数组（int、long、double与boolean按位存放，不装箱）和一个Object数组（字符串、嵌套对象等），
+ * 不再为每个字段分配Entry对象。读取数值时按需装箱，值的类型与{@link JacksonUtils#fromMap(Object)}一致。
+ * <p>
+ * 所有修改操作抛出{@link UnsupportedOperationException}。形状注册表的容量有上限，超出后的新形状不再共享，
+ * 避免以动态值为键的对象（如以ID为键的映射）无限占用内存
+ *
+ * @author agent
+ * @since 2026/10/17 01:23
+ */
+public final class CompactMap extends AbstractMap<String, Object> {
+
+    /**
+     * 形状注册表的最大形状数
+     */
+    public static final int MAXIMUM_SHAPES = 10_000;
+
+    /**
+     * 驻留键的最大数量
+     */
+    public static final int MAXIMUM_KEYS = 100_000;
+
+    static final byte NULL = 0;
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte DOUBLE = 3;
+    static final byte BOOLEAN = 4;
+    static final byte REFERENCE = 5;
+
+    private static final long[] NO_PRIMITIVES = new long[0];
+    private static final Object[] NO_REFERENCES = new Object[0];
+
+    private static final ConcurrentHashMap<Shape, Shape> SHAPES = new ConcurrentHashMap<>();
+
+    private static final ConcurrentHashMap<String, String> KEYS = new ConcurrentHashMap<>();
+
+    private final Shape shape;
+    private final long[] primitives;
+    private final Object[] references;
+
+    private CompactMap(Shape shape, long[] primitives, Object[] references) {
+        this.shape = shape;
+        this.primitives = primitives;
+        this.references = references;
+    }
+
+    /**
+     * 以键、类型与值创建Map，仅供{@link CompactJsonReader}使用
+     *
+     * @param keys       键，不含重复键
+     * @param kinds      各值的存储类型
+     * @param primitives 各值的原始位，非原始类型的位置忽略
+     * @param references 各值的引用，原始类型的位置忽略
+     * @param size       条目数
+     * @return Map
+     */
+    static CompactMap of(String[] keys, byte[] kinds, long[] primitives, Object[] references, int size) {
+        Shape shape = shape(Arrays.copyOf(keys, size), Arrays.copyOf(kinds, size));
+        long[] packedPrimitives = shape.primitiveCount == 0 ? NO_PRIMITIVES : new long[shape.primitiveCount];
+        Object[] packedReferences = shape.referenceCount == 0 ? NO_REFERENCES : new Object[shape.referenceCount];
+        for (int i = 0; i < size; i++) {
+            byte kind = shape.kinds[i];
+            if (kind == REFERENCE) {
+                packedReferences[shape.slots[i]] = references[i];
+            } else if (kind != NULL) {
+                packedPrimitives[shape.slots[i]] = primitives[i];
+            }
+        }
+        return new CompactMap(shape, packedPrimitives, packedReferences);
+    }
+
+    /**
+     * 当前注册的形状数
+     *
+     * @return 形状数
+     */
+    public static int shapeCount() {
+        return SHAPES.size();
+    }
+
+    @Override
+    public int size() {
+        return shape.keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return shape.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = shape.indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int index = shape.indexOf(key);
+        return index < 0 ? defaultValue : value(index);
+    }
+
+    /**
+     * 读取int值，不装箱
+     *
+     * @param key          键
+     * @param defaultValue 键不存在或值不是int时返回的默认值
+     * @return int值
+     */
+    public int getInt(String key, int defaultValue) {
+        int index = shape.indexOf(key);
+        return index >= 0 && shape.kinds[index] == INT ? (int) primitives[shape.slots[index]] : defaultValue;
+    }
+
+    /**
+     * 读取整数值，int与long均可读取，不装箱
+     *
+     * @param key          键
+     * @param defaultValue 键不存在或值不是整数时返回的默认值
+     * @return long值
+     */
+    public long getLong(String key, long defaultValue) {
+        int index = shape.indexOf(key);
+        if (index < 0) {
+            return defaultValue;
+        }
+        byte kind = shape.kinds[index];
+        return kind == INT || kind == LONG ? primitives[shape.slots[index]] : defaultValue;
+    }
+
+    /**
+     * 读取double值，不装箱
+     *
+     * @param key          键
+     * @param defaultValue 键不存在或值不是double时返回的默认值
+     * @return double值
+     */
+    public double getDouble(String key, double defaultValue) {
+        int index = shape.indexOf(key);
+        return index >= 0 && shape.kinds[index] == DOUBLE
+                ? Double.longBitsToDouble(primitives[shape.slots[index]]) : defaultValue;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < shape.keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int current = index++;
+                        return new SimpleImmutableEntry<>(shape.keys[current], value(current));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return shape.keys.length;
+            }
+        };
+    }
+
+    private Object value(int index) {
+        int slot = shape.slots[index];
+        return switch (shape.kinds[index]) {
+            case INT -> (int) primitives[slot];
+            case LONG -> primitives[slot];
+            case DOUBLE -> Double.longBitsToDouble(primitives[slot]);
+            case BOOLEAN -> primitives[slot] != 0;
+            case REFERENCE -> references[slot];
+            default -> null;
+        };
+    }
+
+    /**
+     * 查找或注册形状
+     */
+    private static Shape shape(String[] keys, byte[] kinds) {
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys[i];
+            String interned = KEYS.get(key);
+            if (interned == null) {
+                interned = KEYS.size() < MAXIMUM_KEYS ? KEYS.computeIfAbsent(key, k -> k) : key;
+            }
+            keys[i] = interned;
+        }
+        Shape candidate = new Shape(keys, kinds);
+        Shape shape = SHAPES.get(candidate);
+        if (shape != null) {
+            return shape;
+        }
+        if (SHAPES.size() >= MAXIMUM_SHAPES) {
+            return candidate;
+        }
+        shape = SHAPES.putIfAbsent(candidate, candidate);
+        return shape != null ? shape : candidate;
+    }
+
+    /**
+     * 形状：有序的键、各值的存储类型以及值在存储数组中的位置
+     */
+    static final class Shape {
+
+        /**
+         * 键数量超过该值时使用哈希索引查找
+         */
+        static final int LINEAR_SCAN_LIMIT = 8;
+
+        final String[] keys;
+        final byte[] kinds;
+        final int[] slots;
+        final int primitiveCount;
+        final int referenceCount;
+        private final int hash;
+
+        /**
+         * 键较多时按需构建的哈希索引，并发下重复构建是无害的
+         */
+        private volatile Map<String, Integer> index;
+
+        Shape(String[] keys, byte[] kinds) {
+            this.keys = keys;
+            this.kinds = kinds;
+            this.slots = new int[keys.length];
+            int primitiveCount = 0;
+            int referenceCount = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (kinds[i] == REFERENCE) {
+                    slots[i] = referenceCount++;
+                } else if (kinds[i] != NULL) {
+                    slots[i] = primitiveCount++;
+                }
+            }
+            this.primitiveCount = primitiveCount;
+            this.referenceCount = referenceCount;
+            this.hash = 31 * Arrays.hashCode(keys) + Arrays.hashCode(kinds);
+        }
+
+        int indexOf(Object key) {
+            if (keys.length > LINEAR_SCAN_LIMIT) {
+                Map<String, Integer> map = index;
+                if (map == null) {
+                    map = new HashMap<>(keys.length * 2);
+                    for (int i = 0; i < keys.length; i++) {
+                        map.put(keys[i], i);
+                    }
+                    index = map;
+                }
+                Integer i = map.get(key);
+                return i == null ? -1 : i;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                // 驻留的键多数情况下引用相同，先比较引用
+                if (keys[i] == key || keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Shape other && hash == other.hash
+                    && Arrays.equals(keys, other.keys) && Arrays.equals(kinds, other.kinds);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * JacksonBulk
+ * 批量序列化与反序列化：一批相互独立的对象或JSON数据被切分为连续的分片，分片在执行器上并行处理，
+ * 调用线程同时处理第一个分片。结果保持输入顺序，单条失败记录为错误码与JacksonUtils一致的
+ * {@link ServiceException}，不影响其余条目。条目数低于阈值时在调用线程上顺序处理，不产生调度开销。
+ * 实例不可变且可在多线程间共享
+ *
+ * @author agent
+ * @since 2026/10/17 01:48
+ */
+public final class JacksonBulk {
+
+    /**
+     * 默认的并行阈值，条目数低于该值时顺序处理
+     */
+    public static final int DEFAULT_THRESHOLD = 32;
+
+    /**
+     * 使用默认执行器、阈值与并行度的实例
+     */
+    private static final JacksonBulk DEFAULTS = builder().build();
+
+    private final Executor executor;
+    private final int threshold;
+    private final int parallelism;
+
+    private JacksonBulk(Builder builder) {
+        this.executor = builder.executor != null ? builder.executor : JacksonExecutors.defaultExecutor();
+        this.threshold = builder.threshold;
+        this.parallelism = builder.parallelism;
+    }
+
+    /**
+     * 默认配置：支持时使用虚拟线程，否则使用公共ForkJoinPool；阈值为{@value #DEFAULT_THRESHOLD}，并行度为可用处理器数
+     *
+     * @return 默认实例
+     */
+    public static JacksonBulk defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 将每个对象序列化为JSON字符串
+     *
+     * @param values 要序列化的对象
+     * @return 与输入顺序一致的结果
+     */
+    public Result<String> toJsonAll(Collection<?> values) {
+        JacksonCache current = JacksonUtils.getCache();
+        return run(values.toArray(), value -> JacksonUtils.toJson(current, value));
+    }
+
+    /**
+     * 将每个对象序列化为UTF-8编码的JSON字节数组
+     *
+     * @param values 要序列化的对象
+     * @return 与输入顺序一致的结果
+     */
+    public Result<byte[]> toJsonBytesAll(Collection<?> values) {
+        JacksonCache current = JacksonUtils.getCache();
+        return run(values.toArray(), value -> JacksonUtils.toJsonBytes(current, value));
+    }
+
+    /**
+     * 将每条JSON数据反序列化为指定类型的对象
+     *
+     * @param contents 输入的JSON数据，每条可以是字符串、字节数据或其他对象
+     * @param clazz    目标对象的类类型
+     * @param <T>      泛型类型
+     * @return 与输入顺序一致的结果
+     */
+    public <T> Result<T> fromJsonAll(List<?> contents, Class<T> clazz) {
+        return fromJsonAll(contents, JacksonUtils.getCache().type(clazz));
+    }
+
+    /**
+     * 将每条JSON数据反序列化为指定JavaType的对象
+     *
+     * @param contents 输入的JSON数据，每条可以是字符串、字节数据或其他对象
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 与输入顺序一致的结果
+     */
+    public <T> Result<T> fromJsonAll(List<?> contents, JavaType javaType) {
+        JacksonCache current = JacksonUtils.getCache();
+        // 预先创建ObjectReader，避免各分片同时构建反序列化器
+        current.reader(javaType);
+        return run(contents.toArray(), content -> JacksonUtils.read(current, content, javaType));
+    }
+
+    /**
+     * 切分并处理全部条目
+     */
+    private <T> Result<T> run(Object[] items, Task<T> task) {
+        int size = items.length;
+        Object[] values = new Object[size];
+        ServiceException[] failures = new ServiceException[size];
+        int slices = size < threshold ? 1 : Math.min(parallelism, size);
+        if (slices <= 1) {
+            process(items, 0, size, task, values, failures);
+            return new Result<>(values, failures);
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(slices - 1);
+        int from = sliceEnd(size, slices, 0);
+        for (int slice = 1; slice < slices; slice++) {
+            int start = from;
+            int end = sliceEnd(size, slices, slice);
+            try {
+                futures.add(CompletableFuture.runAsync(() -> process(items, start, end, task, values, failures), executor));
+            } catch (RejectedExecutionException e) {
+                process(items, start, end, task, values, failures);
+            }
+            from = end;
+        }
+        process(items, 0, sliceEnd(size, slices, 0), task, values, failures);
+        // 各分片写入互不重叠的下标，join建立可见性
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        return new Result<>(values, failures);
+    }
+
+    private static int sliceEnd(int size, int slices, int slice) {
+        return (int) ((long) size * (slice + 1) / slices);
+    }
+
+    private static <T> void process(Object[] items, int from, int to, Task<T> task,
+                                    Object[] values, ServiceException[] failures) {
+        for (int i = from; i < to; i++) {
+            try {
+                values[i] = task.apply(items[i]);
+            } catch (ServiceException e) {
+                failures[i] = e;
+            } catch (Exception e) {
+                failures[i] = JacksonUtils.newInstance(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task<T> {
+        T apply(Object item) throws Exception;
+    }
+
+    /**
+     * 批量处理的结果，值与失败均按输入下标对应
+     *
+     * @param <T> 结果类型
+     */
+    public static final class Result<T> {
+
+        /**
+         * 与输入顺序一致的结果，失败的条目为null
+         */
+        @Getter
+        private final List<T> values;
+
+        /**
+         * 失败条目的异常，键为输入下标，按下标升序
+         */
+        @Getter
+        private final Map<Integer, ServiceException> failures;
+
+        @SuppressWarnings("unchecked")
+        private Result(Object[] values, ServiceException[] failures) {
+            this.values = Collections.unmodifiableList((List<T>) Arrays.asList(values));
+            Map<Integer, ServiceException> failed = new TreeMap<>();
+            for (int i = 0; i < failures.length; i++) {
+                if (failures[i] != null) {
+                    failed.put(i, failures[i]);
+                }
+            }
+            this.failures = Collections.unmodifiableMap(failed);
+        }
+
+        /**
+         * 是否存在失败的条目
+         *
+         * @return 存在时返回true
+         */
+        public boolean hasFailures() {
+            return !failures.isEmpty();
+        }
+
+        /**
+         * 全部成功时返回结果，否则抛出第一个失败条目的异常
+         *
+         * @return 与输入顺序一致的结果
+         * @throws ServiceException 存在失败的条目时抛出
+         */
+        public List<T> orElseThrow() {
+            if (!failures.isEmpty()) {
+                throw failures.values().iterator().next();
+            }
+            return values;
+        }
+    }
+
+    /**
+     * JacksonBulk构建器
+     */
+    public static final class Builder {
+        private Executor executor;
+        private int threshold = DEFAULT_THRESHOLD;
+        private int parallelism = JacksonExecutors.defaultParallelism();
+
+        private Builder() {
+        }
+
+        /**
+         * 设置处理分片的执行器，默认在支持时使用虚拟线程，否则使用公共ForkJoinPool
+         *
+         * @param executor 执行器
+         * @return 构建器
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 设置并行阈值，条目数低于该值时在调用线程上顺序处理
+         *
+         * @param threshold 阈值，必须大于0
+         * @return 构建器
+         */
+        public Builder threshold(int threshold) {
+            if (threshold <= 0) {
+                throw new IllegalArgumentException("threshold must be greater than 0");
+            }
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * 设置并行度，即一批条目切分的最大分片数（含调用线程处理的分片）
+         *
+         * @param parallelism 并行度，必须大于0
+         * @return 构建器
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be greater than 0");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * 构建JacksonBulk
+         *
+         * @return JacksonBulk
+         */
+        public JacksonBulk build() {
+            return new JacksonBulk(this);
+        }
+    }
+}
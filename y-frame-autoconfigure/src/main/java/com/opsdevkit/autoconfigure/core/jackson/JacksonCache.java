@@ -0,0 +1,346 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import lombok.Getter;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * JacksonCache
+ * 绑定到单个{@link ObjectMapper}的有界并发缓存，缓存预先构建的JavaType、{@link ObjectReader}与{@link ObjectWriter}。
+ * 超出容量时按近似LRU淘汰：每次新增条目推进一次时钟，命中时记录条目最近访问的时钟值；
+ * 淘汰由单个线程批量进行，一次移除时钟值最小的约十分之一条目，扫描的开销分摊到之后的新增上。
+ * 普通类与其JavaType共用同一条目。
+ *
+ * @author agent
+ * @since 2026/10/17 00:55
+ */
+public final class JacksonCache {
+
+    /**
+     * 默认最大条目数
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    /**
+     * 缓存绑定的ObjectMapper
+     */
+    @Getter
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 最大条目数
+     */
+    @Getter
+    private final int maximumSize;
+
+    /**
+     * 未指定类型时使用的ObjectWriter
+     */
+    private final ObjectWriter defaultWriter;
+
+    /**
+     * 缓存条目，键为JavaType、类型引用的java.lang.reflect.Type或组合类型键
+     */
+    private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 淘汰时钟，每新增一个条目加一
+     */
+    private final AtomicLong clock = new AtomicLong();
+
+    /**
+     * 是否有线程正在淘汰
+     */
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    /**
+     * 创建缓存实例
+     *
+     * @param objectMapper 绑定的ObjectMapper
+     * @param maximumSize  最大条目数，必须大于0
+     */
+    public JacksonCache(ObjectMapper objectMapper, int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        this.objectMapper = objectMapper;
+        this.maximumSize = maximumSize;
+        this.defaultWriter = objectMapper.writer();
+    }
+
+    /**
+     * 获取TypeFactory实例
+     *
+     * @return TypeFactory实例
+     */
+    public TypeFactory getTypeFactory() {
+        return objectMapper.getTypeFactory();
+    }
+
+    /**
+     * 获取类对应的JavaType，以JavaType为键，与同一类型的ObjectReader/ObjectWriter共用条目
+     *
+     * @param clazz 类类型
+     * @return JavaType
+     */
+    public JavaType type(Class<?> clazz) {
+        JavaType javaType = getTypeFactory().constructType(clazz);
+        return entry(javaType, key -> javaType).type;
+    }
+
+    /**
+     * 获取类型引用对应的JavaType，以类型引用承载的泛型类型为键，同一泛型类型的不同引用实例共享条目
+     *
+     * @param reference 类型引用
+     * @return JavaType
+     */
+    public JavaType type(TypeReference<?> reference) {
+        return entry(reference.getType(), key -> getTypeFactory().constructType(reference)).type;
+    }
+
+    /**
+     * 获取List&lt;clazz&gt;对应的JavaType
+     *
+     * @param clazz 列表元素的类类型
+     * @return JavaType
+     */
+    public JavaType listType(Class<?> clazz) {
+        return entry(new TypeKey(List.class, clazz, null),
+                key -> getTypeFactory().constructCollectionType(List.class, clazz)).type;
+    }
+
+    /**
+     * 获取Map&lt;keyClass, valueClass&gt;对应的JavaType
+     *
+     * @param keyClass   键的类类型
+     * @param valueClass 值的类类型
+     * @return JavaType
+     */
+    public JavaType mapType(Class<?> keyClass, Class<?> valueClass) {
+        return entry(new TypeKey(Map.class, keyClass, valueClass),
+                key -> getTypeFactory().constructMapType(Map.class, keyClass, valueClass)).type;
+    }
+
+    /**
+     * 获取List&lt;Map&lt;keyClass, valueClass&gt;&gt;对应的JavaType
+     *
+     * @param keyClass   键的类类型
+     * @param valueClass 值的类类型
+     * @return JavaType
+     */
+    public JavaType listMapType(Class<?> keyClass, Class<?> valueClass) {
+        return entry(new TypeKey(List.class, keyClass, valueClass),
+                key -> getTypeFactory().constructCollectionType(List.class, mapType(keyClass, valueClass))).type;
+    }
+
+    /**
+     * 获取指定类型的ObjectReader，首次获取时构建并预取根反序列化器
+     *
+     * @param javaType 目标类型
+     * @return ObjectReader
+     */
+    public ObjectReader reader(JavaType javaType) {
+        Entry entry = entry(javaType, key -> javaType);
+        ObjectReader reader = entry.reader;
+        if (reader == null) {
+            reader = objectMapper.readerFor(javaType);
+            entry.reader = reader;
+        }
+        return reader;
+    }
+
+    /**
+     * 获取指定类型的ObjectWriter，首次获取时构建并预取根序列化器
+     *
+     * @param javaType 根类型
+     * @return ObjectWriter
+     */
+    public ObjectWriter writer(JavaType javaType) {
+        Entry entry = entry(javaType, key -> javaType);
+        ObjectWriter writer = entry.writer;
+        if (writer == null) {
+            writer = objectMapper.writerFor(javaType);
+            entry.writer = writer;
+        }
+        return writer;
+    }
+
+    /**
+     * 获取适合序列化指定值的ObjectWriter，按值的运行时类型缓存
+     *
+     * @param value 要序列化的值
+     * @return ObjectWriter，value为null时返回未指定类型的ObjectWriter
+     */
+    public ObjectWriter writerForValue(Object value) {
+        return value == null ? defaultWriter : writer(getTypeFactory().constructType(value.getClass()));
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 统计信息快照
+     */
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * 清空缓存条目，统计信息保留
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 查找或创建缓存条目
+     *
+     * @param key     条目键
+     * @param factory 创建条目时计算JavaType的函数
+     * @return 缓存条目
+     */
+    private Entry entry(Object key, Function<Object, JavaType> factory) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            long now = clock.get();
+            // 仅在时钟推进后写入，避免热点条目上的无谓写竞争
+            if (entry.lastAccess != now) {
+                entry.lastAccess = now;
+            }
+            return entry;
+        }
+        misses.increment();
+        Entry created = new Entry(factory.apply(key), clock.getAndIncrement());
+        entry = entries.putIfAbsent(key, created);
+        if (entry != null) {
+            return entry;
+        }
+        if (entries.size() > maximumSize) {
+            evict(key);
+        }
+        return created;
+    }
+
+    /**
+     * 批量淘汰最近最少访问的条目，使条目数降到最大值的约九成；已有线程在淘汰时直接返回
+     *
+     * @param protectedKey 本次新增的条目键，不参与淘汰
+     */
+    private void evict(Object protectedKey) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int excess = entries.size() - (maximumSize - maximumSize / 10);
+            if (excess <= 0) {
+                return;
+            }
+            long[] stamps = new long[entries.size()];
+            int count = 0;
+            for (Entry entry : entries.values()) {
+                if (count == stamps.length) {
+                    break;
+                }
+                stamps[count++] = entry.lastAccess;
+            }
+            if (count == 0) {
+                return;
+            }
+            Arrays.sort(stamps, 0, count);
+            long threshold = stamps[Math.min(excess, count) - 1];
+            int removed = 0;
+            for (Map.Entry<Object, Entry> candidate : entries.entrySet()) {
+                if (removed >= excess) {
+                    break;
+                }
+                if (candidate.getValue().lastAccess <= threshold && !candidate.getKey().equals(protectedKey)
+                        && entries.remove(candidate.getKey(), candidate.getValue())) {
+                    removed++;
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 缓存条目，reader与writer按需构建，并发下重复构建是无害的
+     */
+    private static final class Entry {
+        final JavaType type;
+        volatile ObjectReader reader;
+        volatile ObjectWriter writer;
+        long lastAccess;
+
+        Entry(JavaType type, long lastAccess) {
+            this.type = type;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * 组合类型键
+     *
+     * @param container 容器类型
+     * @param first     第一个类型参数
+     * @param second    第二个类型参数，可以为空
+     */
+    private record TypeKey(Class<?> container, Type first, Type second) {
+    }
+
+    /**
+     * 缓存统计信息
+     *
+     * @param hitCount      命中次数
+     * @param missCount     未命中次数
+     * @param evictionCount 淘汰次数
+     * @param size          当前条目数
+     */
+    public record Stats(long hitCount, long missCount, long evictionCount, int size) {
+
+        /**
+         * 计算命中率
+         *
+         * @return 命中率，尚无请求时返回1.0
+         */
+        public double hitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 1.0 : (double) hitCount / total;
+        }
+    }
+}
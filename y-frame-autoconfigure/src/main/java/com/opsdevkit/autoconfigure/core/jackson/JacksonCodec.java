@@ -0,0 +1,390 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * JacksonCodec
+ * 按名称获取的Jackson编解码器，JSON与二进制格式（Smile、CBOR、MessagePack）共享相同的方法形式与错误处理。
+ * <p>
+ * 二进制格式的ObjectMapper由{@link JacksonUtils#getObjectMapper()}以对应格式的工厂复制得到，
+ * 模块、包含策略等配置与JSON保持一致；JacksonUtils的ObjectMapper被替换后自动重新复制。
+ * 各格式的依赖均为可选，缺少依赖的格式在获取时抛出异常，可通过{@link #isAvailable(String)}预先判断。
+ * 编解码失败时抛出错误码与JacksonUtils一致的{@link com.opsdevkit.autoconfigure.core.exception.ServiceException}
+ *
+ * @author agent
+ * @since 2026/10/17 01:30
+ */
+public final class JacksonCodec {
+
+    /**
+     * JSON文本
+     */
+    public static final String JSON = "json";
+
+    /**
+     * Smile二进制JSON，需要jackson-dataformat-smile
+     */
+    public static final String SMILE = "smile";
+
+    /**
+     * CBOR，需要jackson-dataformat-cbor
+     */
+    public static final String CBOR = "cbor";
+
+    /**
+     * MessagePack，需要org.msgpack:jackson-dataformat-msgpack。
+     * 该库（0.9.x）在JDK 9+上按平台默认字符集解码短字符串，因此仅在默认字符集为UTF-8时自动注册，
+     * 否则非ASCII文本会解码错误；JDK 18起默认字符集固定为UTF-8
+     */
+    public static final String MSGPACK = "msgpack";
+
+    private static final ConcurrentHashMap<String, JacksonCodec> CODECS = new ConcurrentHashMap<>();
+
+    static {
+        CODECS.put(JSON, new JacksonCodec(JSON, null));
+        registerIfPresent(SMILE, "com.fasterxml.jackson.dataformat.smile.SmileFactory");
+        registerIfPresent(CBOR, "com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+        if (StandardCharsets.UTF_8.equals(Charset.defaultCharset())) {
+            registerIfPresent(MSGPACK, "org.msgpack.jackson.dataformat.MessagePackFactory");
+        }
+    }
+
+    /**
+     * 编解码器名称
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 数据格式的工厂，JSON为空，直接使用JacksonUtils的ObjectMapper
+     */
+    private final Supplier<JsonFactory> factory;
+
+    private volatile Binding binding;
+
+    private JacksonCodec(String name, Supplier<JsonFactory> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * 按名称获取编解码器
+     *
+     * @param name 编解码器名称
+     * @return 编解码器
+     */
+    public static JacksonCodec of(String name) {
+        JacksonCodec codec = CODECS.get(name);
+        if (codec == null) {
+            throw new IllegalArgumentException("Jackson codec '" + name + "' is not available, available codecs: "
+                    + CODECS.keySet());
+        }
+        return codec;
+    }
+
+    /**
+     * 判断编解码器是否可用
+     *
+     * @param name 编解码器名称
+     * @return 已注册且依赖存在时返回true
+     */
+    public static boolean isAvailable(String name) {
+        return CODECS.containsKey(name);
+    }
+
+    /**
+     * 全部可用的编解码器名称
+     *
+     * @return 名称集合
+     */
+    public static Set<String> names() {
+        return Set.copyOf(CODECS.keySet());
+    }
+
+    /**
+     * 注册自定义数据格式，同名的编解码器被替换
+     *
+     * @param name    编解码器名称
+     * @param factory 数据格式工厂的提供者，每次JacksonUtils的ObjectMapper被替换时调用
+     * @return 注册的编解码器
+     */
+    public static JacksonCodec register(String name, Supplier<JsonFactory> factory) {
+        JacksonCodec codec = new JacksonCodec(name, factory);
+        CODECS.put(name, codec);
+        return codec;
+    }
+
+    /**
+     * JSON编解码器
+     *
+     * @return 编解码器
+     */
+    public static JacksonCodec json() {
+        return of(JSON);
+    }
+
+    /**
+     * Smile编解码器
+     *
+     * @return 编解码器
+     */
+    public static JacksonCodec smile() {
+        return of(SMILE);
+    }
+
+    /**
+     * CBOR编解码器
+     *
+     * @return 编解码器
+     */
+    public static JacksonCodec cbor() {
+        return of(CBOR);
+    }
+
+    /**
+     * MessagePack编解码器
+     *
+     * @return 编解码器
+     */
+    public static JacksonCodec msgpack() {
+        return of(MSGPACK);
+    }
+
+    /**
+     * 获取本格式的缓存，其中的ObjectMapper由JacksonUtils的ObjectMapper复制得到
+     *
+     * @return 缓存
+     */
+    public JacksonCache getCache() {
+        if (factory == null) {
+            return JacksonUtils.getCache();
+        }
+        ObjectMapper source = JacksonUtils.getObjectMapper();
+        Binding current = binding;
+        if (current == null || current.source != source) {
+            current = new Binding(source, new JacksonCache(source.copyWith(formatFactory(source.getFactory())),
+                    JacksonUtils.getCache().getMaximumSize()));
+            binding = current;
+        }
+        return current.cache;
+    }
+
+    /**
+     * 创建数据格式工厂，并沿用源ObjectMapper工厂的读写限制与缓冲区池
+     */
+    private JsonFactory formatFactory(JsonFactory source) {
+        JsonFactory created = factory.get();
+        created.setStreamReadConstraints(source.streamReadConstraints());
+        created.setStreamWriteConstraints(source.streamWriteConstraints());
+        created.setRecyclerPool(source._getRecyclerPool());
+        return created;
+    }
+
+    /**
+     * 编码对象
+     *
+     * @param value 要编码的对象
+     * @return 编码后的字节
+     */
+    public byte[] encode(Object value) {
+        try {
+            return getCache().writerForValue(value).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    /**
+     * 编码对象并写入输出流，不关闭输出流
+     *
+     * @param value 要编码的对象
+     * @param out   输出流
+     */
+    public void encode(Object value, OutputStream out) {
+        try {
+            getCache().writerForValue(value).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(out, value);
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    /**
+     * 解码为指定类型的对象
+     *
+     * @param content 编码后的字节
+     * @param clazz   目标对象的类类型
+     * @param <T>     泛型类型
+     * @return 解码后的对象
+     */
+    public <T> T decode(byte[] content, Class<T> clazz) {
+        return decode(content, getCache().type(clazz));
+    }
+
+    /**
+     * 解码为指定类型的对象
+     *
+     * @param content   编码后的字节
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 解码后的对象
+     */
+    public <T> T decode(byte[] content, TypeReference<T> reference) {
+        return decode(content, getCache().type(reference));
+    }
+
+    /**
+     * 解码为指定类型的对象
+     *
+     * @param content  编码后的字节
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 解码后的对象
+     */
+    public <T> T decode(byte[] content, JavaType javaType) {
+        try {
+            return getCache().reader(javaType).readValue(content);
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    /**
+     * 从输入流解码为指定类型的对象
+     *
+     * @param content 输入流
+     * @param clazz   目标对象的类类型
+     * @param <T>     泛型类型
+     * @return 解码后的对象
+     */
+    public <T> T decode(InputStream content, Class<T> clazz) {
+        return decode(content, getCache().type(clazz));
+    }
+
+    /**
+     * 从输入流解码为指定类型的对象
+     *
+     * @param content  输入流
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 解码后的对象
+     */
+    public <T> T decode(InputStream content, JavaType javaType) {
+        try {
+            return getCache().reader(javaType).readValue(content);
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    /**
+     * 解码为指定元素类型的列表
+     *
+     * @param content 编码后的字节
+     * @param clazz   列表元素的类类型
+     * @param <T>     泛型类型
+     * @return 列表
+     */
+    public <T> List<T> decodeList(byte[] content, Class<T> clazz) {
+        return decode(content, getCache().listType(clazz));
+    }
+
+    /**
+     * 解码为Map&lt;String, Object&gt;列表
+     *
+     * @param content 编码后的字节
+     * @return 列表
+     */
+    public List<Map<String, Object>> decodeListMap(byte[] content) {
+        return decode(content, getCache().listMapType(String.class, Object.class));
+    }
+
+    /**
+     * 解码为Map&lt;String, Object&gt;
+     *
+     * @param content 编码后的字节
+     * @return Map
+     */
+    public Map<String, Object> decodeMap(byte[] content) {
+        return decode(content, getCache().mapType(String.class, Object.class));
+    }
+
+    /**
+     * 解码为指定键值类型的Map
+     *
+     * @param content    编码后的字节
+     * @param keyClass   键的类类型
+     * @param valueClass 值的类类型
+     * @param <K>        键的泛型类型
+     * @param <V>        值的泛型类型
+     * @return Map
+     */
+    public <K, V> Map<K, V> decodeMap(byte[] content, Class<K> keyClass, Class<V> valueClass) {
+        return decode(content, getCache().mapType(keyClass, valueClass));
+    }
+
+    @Override
+    public String toString() {
+        return "JacksonCodec[" + name + "]";
+    }
+
+    /**
+     * 数据格式的工厂类存在时注册编解码器
+     */
+    private static void registerIfPresent(String name, String factoryClassName) {
+        Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName(factoryClassName, false, JacksonCodec.class.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return;
+        }
+        CODECS.put(name, new JacksonCodec(name, () -> {
+            try {
+                return (JsonFactory) factoryClass.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create " + factoryClassName, e);
+            }
+        }));
+    }
+
+    /**
+     * 复制来源与对应的缓存
+     *
+     * @param source 复制来源
+     * @param cache  缓存
+     */
+    private record Binding(ObjectMapper source, JacksonCache cache) {
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JacksonExecutors
+ * jackson包内并行处理使用的执行器。运行在支持虚拟线程的JDK（21+）上时提供每任务一个虚拟线程的执行器，
+ * 否则回退到{@link ForkJoinPool#commonPool()}
+ *
+ * @author agent
+ * @since 2026/10/17 00:59
+ */
+final class JacksonExecutors {
+
+    /**
+     * Executors.newVirtualThreadPerTaskExecutor的句柄，JDK不支持时为null
+     */
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private JacksonExecutors() {
+    }
+
+    /**
+     * 创建每任务一个虚拟线程的执行器，调用方负责关闭
+     *
+     * @return 虚拟线程执行器，JDK不支持时返回null
+     */
+    static ExecutorService newVirtualThreadExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invokeExact();
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * 默认执行器，优先使用虚拟线程，否则使用公共ForkJoinPool
+     *
+     * @return 执行器
+     */
+    static Executor defaultExecutor() {
+        return DefaultHolder.EXECUTOR;
+    }
+
+    /**
+     * 默认并行度，即可用处理器数
+     *
+     * @return 并行度
+     */
+    static int defaultParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 延迟创建默认执行器，虚拟线程执行器在进程内共享且不关闭
+     */
+    private static final class DefaultHolder {
+        static final Executor EXECUTOR;
+
+        static {
+            ExecutorService virtual = newVirtualThreadExecutor();
+            EXECUTOR = virtual != null ? virtual : ForkJoinPool.commonPool();
+        }
+    }
+}
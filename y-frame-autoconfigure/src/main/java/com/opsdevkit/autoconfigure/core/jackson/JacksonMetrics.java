@@ -0,0 +1,245 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.databind.JavaType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * JacksonMetrics
+ * JacksonUtils序列化与反序列化的埋点：按目标类型记录每次调用的耗时与负载大小，交给{@link Recorder}汇总，
+ * 例如注册为Micrometer的计时器与分布摘要。可以添加多个记录器，例如每个MeterRegistry一个。
+ * <p>
+ * 没有记录器时关闭，关闭时每次调用只多一次volatile读，不读取时钟。
+ * 负载大小按UTF-8字节计，字符串只在开启时逐字符累计编码长度而不实际编码；
+ * 大小未知的输入输出（输入流、输出流、对象转换）记为-1。只记录成功的调用，失败由错误码统计覆盖
+ *
+ * @author agent
+ * @since 2026/10/17 01:52
+ */
+public final class JacksonMetrics {
+
+    /**
+     * 关闭时{@link #start()}返回的值
+     */
+    static final long DISABLED = Long.MIN_VALUE;
+
+    private static final Recorder[] NONE = new Recorder[0];
+
+    /**
+     * 已添加的记录器，添加与移除时整体替换，记录时只读一次
+     */
+    private static volatile Recorder[] recorders = NONE;
+
+    private JacksonMetrics() {
+    }
+
+    /**
+     * 添加记录器
+     *
+     * @param recorder 记录器
+     */
+    public static synchronized void addRecorder(Recorder recorder) {
+        Objects.requireNonNull(recorder, "recorder must not be null");
+        Recorder[] current = recorders;
+        Recorder[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = recorder;
+        recorders = updated;
+    }
+
+    /**
+     * 移除由{@link #addRecorder(Recorder)}添加的记录器，全部移除后关闭埋点
+     *
+     * @param recorder 记录器
+     */
+    public static synchronized void removeRecorder(Recorder recorder) {
+        Recorder[] current = recorders;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == recorder) {
+                Recorder[] updated = new Recorder[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                recorders = updated.length == 0 ? NONE : updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 是否开启埋点
+     *
+     * @return 至少有一个记录器时返回true
+     */
+    public static boolean isEnabled() {
+        return recorders.length != 0;
+    }
+
+    /**
+     * 开始一次计时
+     *
+     * @return 开始时间（纳秒），关闭时返回{@link #DISABLED}
+     */
+    static long start() {
+        return recorders.length != 0 ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * 记录一次反序列化
+     *
+     * @param start    {@link #start()}的返回值
+     * @param javaType 目标类型
+     * @param content  输入的JSON数据
+     */
+    static void recordRead(long start, JavaType javaType, Object content) {
+        if (start != DISABLED) {
+            record(Operation.READ, javaType, System.nanoTime() - start, sizeOf(content));
+        }
+    }
+
+    /**
+     * 记录一次反序列化
+     *
+     * @param start    {@link #start()}的返回值
+     * @param javaType 目标类型
+     * @param bytes    输入的字节数
+     */
+    static void recordRead(long start, JavaType javaType, long bytes) {
+        if (start != DISABLED) {
+            record(Operation.READ, javaType, System.nanoTime() - start, bytes);
+        }
+    }
+
+    /**
+     * 记录一次反序列化，目标类型在开启时才从缓存取得
+     *
+     * @param start   {@link #start()}的返回值
+     * @param cache   使用的缓存
+     * @param clazz   目标类型
+     * @param content 输入的JSON数据
+     */
+    static void recordRead(long start, JacksonCache cache, Class<?> clazz, Object content) {
+        if (start != DISABLED) {
+            long elapsed = System.nanoTime() - start;
+            record(Operation.READ, cache.type(clazz), elapsed, sizeOf(content));
+        }
+    }
+
+    /**
+     * 记录一次序列化
+     *
+     * @param start  {@link #start()}的返回值
+     * @param cache  使用的缓存，用于取得对象运行时类型的JavaType
+     * @param value  序列化的对象
+     * @param output 输出的字符串或字节数组，写入流时为null
+     */
+    static void recordWrite(long start, JacksonCache cache, Object value, Object output) {
+        if (start != DISABLED) {
+            long elapsed = System.nanoTime() - start;
+            record(Operation.WRITE, cache.type(value != null ? value.getClass() : Object.class), elapsed,
+                    sizeOf(output));
+        }
+    }
+
+    /**
+     * 两个读取位置之间的字节数，解析器不按字节计位置（如读取字符串）时为-1
+     *
+     * @param from 起始位置
+     * @param to   结束位置
+     * @return 字节数
+     */
+    static long bytesBetween(JsonLocation from, JsonLocation to) {
+        long begin = from.getByteOffset();
+        long end = to.getByteOffset();
+        return begin >= 0 && end >= begin ? end - begin : -1;
+    }
+
+    private static void record(Operation operation, JavaType type, long elapsedNanos, long bytes) {
+        for (Recorder current : recorders) {
+            current.record(operation, type, elapsedNanos, bytes);
+        }
+    }
+
+    private static long sizeOf(Object content) {
+        if (content instanceof String st) {
+            return utf8Length(st);
+        }
+        if (content instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        if (content instanceof ByteBuffer buffer) {
+            return buffer.remaining();
+        }
+        return -1;
+    }
+
+    /**
+     * 字符串按UTF-8编码后的字节数，不成对的代理字符与{@link String#getBytes}一致按替换后的1字节计
+     */
+    static long utf8Length(String value) {
+        int length = value.length();
+        long bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 操作类型
+     */
+    public enum Operation {
+        /**
+         * 反序列化，fromJson及其派生方法、紧凑Map读取、extract与extractAll、update与mergePatch、deepCopy，
+         * 以及iterateList、streamList、forEachList与JsonChunkDecoder的每个元素
+         */
+        READ,
+        /**
+         * 序列化，toJson、toJsonBytes、writeTo与diff
+         */
+        WRITE
+    }
+
+    /**
+     * 埋点记录器，在调用线程上同步调用，实现须线程安全且足够轻量
+     */
+    @FunctionalInterface
+    public interface Recorder {
+        /**
+         * 记录一次调用
+         *
+         * @param operation    操作类型
+         * @param type         反序列化的目标类型或序列化对象的运行时类型
+         * @param elapsedNanos 耗时（纳秒）
+         * @param bytes        负载大小，未知时为-1
+         */
+        void record(Operation operation, JavaType type, long elapsedNanos, long bytes);
+    }
+}
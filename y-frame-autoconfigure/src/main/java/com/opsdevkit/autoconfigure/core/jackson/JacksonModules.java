@@ -0,0 +1,83 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JacksonModules
+ * 可选的Jackson性能模块。Blackbird模块使用LambdaMetafactory生成属性访问器，替代Bean序列化器中的反射调用；
+ * 模块不在类路径上或无法加载时保持反射方式，不影响功能
+ *
+ * @author agent
+ * @since 2026/10/17 01:03
+ */
+public final class JacksonModules {
+
+    /**
+     * 启用Blackbird的系统属性，作用于JacksonUtils的默认ObjectMapper
+     */
+    public static final String BLACKBIRD_PROPERTY = "y-frame.jackson.blackbird";
+
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    private JacksonModules() {
+    }
+
+    /**
+     * Blackbird模块是否可用
+     *
+     * @return 类路径上存在且可加载时返回true
+     */
+    public static boolean isBlackbirdAvailable() {
+        try {
+            Class.forName(BLACKBIRD_MODULE, false, JacksonModules.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 是否通过系统属性启用了Blackbird
+     *
+     * @return 系统属性为true时返回true
+     */
+    public static boolean isBlackbirdEnabled() {
+        return Boolean.getBoolean(BLACKBIRD_PROPERTY);
+    }
+
+    /**
+     * 向ObjectMapper注册Blackbird模块，重复注册会被忽略
+     *
+     * @param objectMapper 目标ObjectMapper
+     * @return 注册成功时返回true，模块不可用时返回false且ObjectMapper保持不变
+     */
+    public static boolean registerBlackbird(ObjectMapper objectMapper) {
+        Module module;
+        try {
+            module = (Module) Class.forName(BLACKBIRD_MODULE, true, JacksonModules.class.getClassLoader())
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return false;
+        }
+        objectMapper.registerModule(module);
+        return true;
+    }
+}
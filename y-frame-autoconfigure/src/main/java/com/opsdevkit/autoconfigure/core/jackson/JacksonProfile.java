@@ -0,0 +1,195 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JacksonProfile
+ * 命名的ObjectMapper配置，通过{@link JacksonUtils#registerProfile}注册、{@link JacksonUtils#profile(String)}获取。
+ * 每个配置持有独立的ObjectMapper与JavaType、ObjectReader、ObjectWriter缓存，创建一次后在进程内复用，
+ * 避免在调用处复制或新建ObjectMapper而丢失序列化器缓存。方法语义与JacksonUtils的同名静态方法一致。
+ * <p>
+ * 注册后不应再修改配置的ObjectMapper。
+ *
+ * @author agent
+ * @since 2026/10/17 01:37
+ */
+public final class JacksonProfile {
+
+    /**
+     * 配置名称
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 绑定到本配置ObjectMapper的缓存
+     */
+    @Getter
+    private final JacksonCache cache;
+
+    JacksonProfile(String name, ObjectMapper objectMapper, int cacheMaximumSize) {
+        this.name = name;
+        this.cache = new JacksonCache(objectMapper, cacheMaximumSize);
+    }
+
+    /**
+     * 获取本配置的ObjectMapper
+     *
+     * @return ObjectMapper实例
+     */
+    public ObjectMapper getObjectMapper() {
+        return cache.getObjectMapper();
+    }
+
+    /**
+     * 将JSON数据反序列化为指定类型的对象
+     *
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param clazz   目标对象的类类型
+     * @param <T>     泛型类型
+     * @return 反序列化后的对象
+     */
+    public <T> T fromJson(Object content, Class<T> clazz) {
+        return fromJson(content, cache.type(clazz));
+    }
+
+    /**
+     * 将JSON数据反序列化为指定类型引用的对象
+     *
+     * @param content   输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 反序列化后的对象
+     */
+    public <T> T fromJson(Object content, TypeReference<T> reference) {
+        return fromJson(content, cache.type(reference));
+    }
+
+    /**
+     * 将JSON数据反序列化为指定JavaType的对象
+     *
+     * @param content  输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 反序列化后的对象
+     */
+    public <T> T fromJson(Object content, JavaType javaType) {
+        return JacksonUtils.read(cache, content, javaType);
+    }
+
+    /**
+     * 将JSON数据反序列化为指定类型的列表
+     *
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param clazz   列表元素的类类型
+     * @param <T>     泛型类型
+     * @return 反序列化后的列表
+     */
+    public <T> List<T> fromList(Object content, Class<T> clazz) {
+        return fromJson(content, cache.listType(clazz));
+    }
+
+    /**
+     * 将JSON数据反序列化为Map&lt;String, Object&gt;的列表
+     *
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @return 反序列化后的列表
+     */
+    public List<Map<String, Object>> fromListMap(Object content) {
+        return fromJson(content, cache.listType(Map.class));
+    }
+
+    /**
+     * 将JSON数据反序列化为Map&lt;String, Object&gt;
+     *
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @return 反序列化后的Map
+     */
+    public Map<String, Object> fromMap(Object content) {
+        return fromJson(content, cache.mapType(String.class, Object.class));
+    }
+
+    /**
+     * 将JSON数据反序列化为指定键值类型的Map
+     *
+     * @param content    输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param keyClass   键的类类型
+     * @param valueClass 值的类类型
+     * @param <K>        键的泛型类型
+     * @param <V>        值的泛型类型
+     * @return 反序列化后的Map
+     */
+    public <K, V> Map<K, V> fromMap(Object content, Class<K> keyClass, Class<V> valueClass) {
+        return fromJson(content, cache.mapType(keyClass, valueClass));
+    }
+
+    /**
+     * 按指定JavaType深拷贝对象
+     *
+     * @param value    要拷贝的对象
+     * @param javaType 对象的JavaType
+     * @param <T>      泛型类型
+     * @return 拷贝后的新对象
+     */
+    public <T> T deepCopy(T value, JavaType javaType) {
+        return JacksonUtils.deepCopy(cache, value, javaType);
+    }
+
+    /**
+     * 将对象序列化为JSON字符串
+     *
+     * @param value 要序列化的对象
+     * @return 序列化后的JSON字符串
+     */
+    public String toJson(Object value) {
+        return JacksonUtils.toJson(cache, value);
+    }
+
+    /**
+     * 将对象序列化为UTF-8编码的JSON字节数组
+     *
+     * @param value 要序列化的对象
+     * @return 序列化后的JSON字节数组
+     */
+    public byte[] toJsonBytes(Object value) {
+        return JacksonUtils.toJsonBytes(cache, value);
+    }
+
+    /**
+     * 将对象以UTF-8编码的JSON写入输出流，写入后刷新但不关闭输出流
+     *
+     * @param value 要序列化的对象
+     * @param out   目标输出流
+     */
+    public void writeTo(Object value, OutputStream out) {
+        JacksonUtils.writeTo(cache, value, out);
+    }
+
+    @Override
+    public String toString() {
+        return "JacksonProfile[" + name + "]";
+    }
+}
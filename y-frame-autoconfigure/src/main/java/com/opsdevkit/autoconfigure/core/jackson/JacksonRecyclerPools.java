@@ -0,0 +1,215 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * JacksonRecyclerPools
+ * JsonFactory的BufferRecycler池策略。Jackson默认按线程缓存BufferRecycler（ThreadLocal），
+ * 大量短生命周期的虚拟线程几乎无法复用其中的缓冲区，每次读写都会重新分配字符与字节缓冲；
+ * 共享池与分段池让缓冲区在线程之间复用，与线程的数量和生命周期无关。
+ * <p>
+ * 共享池即Jackson自带的{@link JsonRecyclerPools#sharedBoundedPool()}，以单个有界队列存放实例。
+ * Jackson没有分段的实现，分段池在此实现：以CAS存取固定数量的槽位，池空时新建BufferRecycler，池满时丢弃归还的实例，
+ * 不会阻塞调用线程；按线程id选取段，段数为不小于处理器数的2的幂，高并发时各线程几乎不争用同一把锁或同一个槽位
+ *
+ * @author agent
+ * @since 2026/10/17 01:57
+ */
+public final class JacksonRecyclerPools {
+
+    /**
+     * 指定默认策略的系统属性，取{@link Strategy}的名称，忽略大小写，连字符视为下划线
+     */
+    public static final String STRATEGY_PROPERTY = "y-frame.jackson.recycler-pool";
+
+    /**
+     * 分段池每段的槽位数
+     */
+    private static final int STRIPE_SIZE = 4;
+
+    private static final System.Logger LOGGER = System.getLogger(JacksonRecyclerPools.class.getName());
+
+    private JacksonRecyclerPools() {
+    }
+
+    /**
+     * BufferRecycler池策略
+     */
+    public enum Strategy {
+        /**
+         * 每个线程一个BufferRecycler，Jackson的默认策略，适合数量有限的长生命周期平台线程
+         */
+        THREAD_LOCAL,
+        /**
+         * 进程内共享的单段有界无锁池
+         */
+        SHARED,
+        /**
+         * 按线程分段的有界无锁池，适合虚拟线程与高并发
+         */
+        STRIPED,
+        /**
+         * 不复用，每次读写新建缓冲区
+         */
+        NONE
+    }
+
+    /**
+     * 默认策略：系统属性{@value #STRATEGY_PROPERTY}指定的策略，未指定或无法识别时为Jackson默认的{@link Strategy#THREAD_LOCAL}。
+     * JDK支持虚拟线程不代表应用使用虚拟线程，因此不据此切换策略；使用虚拟线程的应用应显式指定{@link Strategy#STRIPED}
+     *
+     * @return 默认策略
+     */
+    public static Strategy defaultStrategy() {
+        String property = System.getProperty(STRATEGY_PROPERTY);
+        if (property != null && !property.isBlank()) {
+            String name = property.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+            for (Strategy strategy : Strategy.values()) {
+                if (strategy.name().equals(name)) {
+                    return strategy;
+                }
+            }
+            // 在JacksonUtils的类初始化中调用，不能因配置错误抛出异常
+            LOGGER.log(System.Logger.Level.WARNING, "Unknown {0} value \"{1}\", expected one of {2}, using {3}",
+                    STRATEGY_PROPERTY, property, Arrays.toString(Strategy.values()), Strategy.THREAD_LOCAL);
+        }
+        return Strategy.THREAD_LOCAL;
+    }
+
+    /**
+     * 获取策略对应的池，共享池与分段池在进程内各只有一个实例
+     *
+     * @param strategy 策略
+     * @return BufferRecycler池
+     */
+    public static RecyclerPool<BufferRecycler> of(Strategy strategy) {
+        return switch (strategy) {
+            case THREAD_LOCAL -> JsonRecyclerPools.threadLocalPool();
+            case SHARED -> JsonRecyclerPools.sharedBoundedPool();
+            case STRIPED -> StripedPool.INSTANCE;
+            case NONE -> JsonRecyclerPools.nonRecyclingPool();
+        };
+    }
+
+    /**
+     * 为ObjectMapper的JsonFactory设置池策略，之后由该ObjectMapper复制的实例沿用同一个池
+     *
+     * @param mapper   要调整的ObjectMapper
+     * @param strategy 策略
+     * @return 传入的ObjectMapper
+     */
+    public static ObjectMapper apply(ObjectMapper mapper, Strategy strategy) {
+        mapper.getFactory().setRecyclerPool(of(strategy));
+        return mapper;
+    }
+
+    /**
+     * 分段的有界无锁池，槽位按段划分，线程从自己的段开始查找，找不到时依次查找其余段
+     */
+    static final class StripedPool implements RecyclerPool<BufferRecycler> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        static final StripedPool INSTANCE = new StripedPool(Integer.highestOneBit(processors() * 2 - 1), STRIPE_SIZE);
+
+        private final transient AtomicReferenceArray<BufferRecycler> slots;
+
+        private final int stripeMask;
+
+        private final int stripeSize;
+
+        StripedPool(int stripes, int stripeSize) {
+            this.slots = new AtomicReferenceArray<>(stripes * stripeSize);
+            this.stripeMask = stripes - 1;
+            this.stripeSize = stripeSize;
+        }
+
+        @Override
+        public BufferRecycler acquirePooled() {
+            int length = slots.length();
+            int start = stripe() * stripeSize;
+            for (int n = 0; n < length; n++) {
+                int i = (start + n) % length;
+                BufferRecycler recycler = slots.get(i);
+                if (recycler != null && slots.compareAndSet(i, recycler, null)) {
+                    return recycler;
+                }
+            }
+            return new BufferRecycler();
+        }
+
+        @Override
+        public void releasePooled(BufferRecycler recycler) {
+            int length = slots.length();
+            int start = stripe() * stripeSize;
+            for (int n = 0; n < length; n++) {
+                int i = (start + n) % length;
+                if (slots.get(i) == null && slots.compareAndSet(i, null, recycler)) {
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public int pooledCount() {
+            int count = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) != null) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public boolean clear() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, null);
+            }
+            return true;
+        }
+
+        @SuppressWarnings("deprecation")
+        private int stripe() {
+            long id = Thread.currentThread().getId();
+            return (int) (id ^ (id >>> 32)) & stripeMask;
+        }
+
+        /**
+         * 反序列化时还原为进程内的共享实例
+         */
+        @Serial
+        private Object readResolve() {
+            return INSTANCE;
+        }
+
+        private static int processors() {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+}
@@ -17,16 +17,42 @@
 package com.opsdevkit.autoconfigure.core.jackson;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.opsdevkit.autoconfigure.core.exception.ServiceException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * JacksonUtils
@@ -49,33 +75,202 @@ public class JacksonUtils {
     private static final Integer JSON_PARSE_ERROR = 100001;
 
     /**
-     * 静态的ObjectMapper实例，用于处理JSON数据的序列化和反序列化
+     * JSON数据超出读取约束（文档长度、嵌套深度、字符串长度、数字长度）时的错误码
      */
-    private static ObjectMapper objectMapper;
+    public static final Integer JSON_CONSTRAINT_ERROR = 100002;
 
     /**
-     * 设置ObjectMapper实例
+     * 通过{@link #setObjectMapper}设置的ObjectMapper实例，为空时使用默认实例
+     */
+    private static volatile ObjectMapper objectMapper;
+
+    /**
+     * 绑定到当前ObjectMapper的JavaType、ObjectReader与ObjectWriter缓存
+     */
+    private static volatile JacksonCache cache;
+
+    /**
+     * 缓存的最大条目数
+     */
+    private static volatile int cacheMaximumSize = JacksonCache.DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * 按名称注册的ObjectMapper配置
+     */
+    private static final ConcurrentHashMap<String, JacksonProfile> PROFILES = new ConcurrentHashMap<>();
+
+    /**
+     * 批量方法使用的配置
+     */
+    private static volatile JacksonBulk bulk = JacksonBulk.defaults();
+
+    /**
+     * 设置ObjectMapper实例，同时使原有的缓存失效
      *
-     * @param objectMapper 要设置的ObjectMapper实例
+     * @param objectMapper 要设置的ObjectMapper实例，为空时恢复使用默认实例
      */
     public static void setObjectMapper(ObjectMapper objectMapper) {
         JacksonUtils.objectMapper = objectMapper;
+        cache = null;
+    }
+
+    /**
+     * 设置缓存的最大条目数，原有的缓存随之失效
+     *
+     * @param maximumSize 最大条目数，必须大于0
+     */
+    public static void setCacheMaximumSize(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be greater than 0");
+        }
+        cacheMaximumSize = maximumSize;
+        cache = null;
+    }
+
+    /**
+     * 获取绑定到当前ObjectMapper的缓存，ObjectMapper被替换后自动重建
+     *
+     * @return 缓存实例
+     */
+    public static JacksonCache getCache() {
+        ObjectMapper mapper = getObjectMapper();
+        JacksonCache current = cache;
+        if (current == null || current.getObjectMapper() != mapper) {
+            current = new JacksonCache(mapper, cacheMaximumSize);
+            cache = current;
+        }
+        return current;
+    }
+
+    /**
+     * 设置批量方法（toJsonAll、fromJsonAll）使用的执行器、并行阈值与并行度
+     *
+     * @param bulk 批量配置，为空时恢复默认配置
+     */
+    public static void setBulk(JacksonBulk bulk) {
+        JacksonUtils.bulk = bulk != null ? bulk : JacksonBulk.defaults();
+    }
+
+    /**
+     * 获取批量方法使用的配置
+     *
+     * @return 批量配置
+     */
+    public static JacksonBulk getBulk() {
+        return bulk;
+    }
+
+    /**
+     * 注册命名配置，同名的配置被替换。配置持有传入的ObjectMapper与独立的缓存，注册后不应再修改该ObjectMapper
+     *
+     * @param name         配置名称
+     * @param objectMapper 配置使用的ObjectMapper
+     * @return 注册的配置
+     */
+    public static JacksonProfile registerProfile(String name, ObjectMapper objectMapper) {
+        JacksonProfile profile = new JacksonProfile(name, objectMapper, cacheMaximumSize);
+        PROFILES.put(name, profile);
+        return profile;
+    }
+
+    /**
+     * 以当前ObjectMapper的副本为基础注册命名配置，副本保留已注册的模块与配置
+     *
+     * @param name       配置名称
+     * @param customizer 调整副本的回调，例如设置命名策略
+     * @return 注册的配置
+     */
+    public static JacksonProfile registerProfile(String name, Consumer<ObjectMapper> customizer) {
+        ObjectMapper mapper = getObjectMapper().copy();
+        customizer.accept(mapper);
+        return registerProfile(name, mapper);
+    }
+
+    /**
+     * 获取命名配置
+     *
+     * @param name 配置名称
+     * @return 配置
+     * @throws IllegalArgumentException 配置不存在时抛出
+     */
+    public static JacksonProfile profile(String name) {
+        JacksonProfile profile = PROFILES.get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown Jackson profile: " + name);
+        }
+        return profile;
+    }
+
+    /**
+     * 移除命名配置
+     *
+     * @param name 配置名称
+     * @return 被移除的配置，不存在时返回null
+     */
+    public static JacksonProfile removeProfile(String name) {
+        return PROFILES.remove(name);
+    }
+
+    /**
+     * 仅当命名配置仍为指定实例时移除，避免误删同名的新配置
+     *
+     * @param profile 要移除的配置
+     * @return 是否移除
+     */
+    public static boolean removeProfile(JacksonProfile profile) {
+        return PROFILES.remove(profile.getName(), profile);
+    }
+
+    /**
+     * 全部已注册的配置名称
+     *
+     * @return 名称集合
+     */
+    public static Set<String> getProfileNames() {
+        return Set.copyOf(PROFILES.keySet());
+    }
+
+    /**
+     * 预热当前ObjectMapper，为给定类型预先构建序列化器、反序列化器并缓存对应的ObjectReader/ObjectWriter。
+     * 之后替换ObjectMapper会使预热结果失效
+     *
+     * @param types      要预热的类型
+     * @param roundTrips 每个类型的序列化与反序列化往返次数，0表示不执行往返
+     * @return 预热结果
+     */
+    public static JacksonWarmer.Result warmUp(Collection<? extends Class<?>> types, int roundTrips) {
+        return JacksonWarmer.warmUp(getCache(), types, roundTrips);
     }
 
     /**
-     * 获取ObjectMapper实例，如果实例为空则进行初始化
+     * 获取ObjectMapper实例，未设置时返回默认实例。
+     * 默认实例由类加载机制保证只创建一次，并发首次调用也不会创建多个实例
      *
      * @return ObjectMapper实例
      */
     public static ObjectMapper getObjectMapper() {
-        if (objectMapper == null) {
-            objectMapper = new ObjectMapper();
-            // 设置序列化时忽略值为null的属性
-            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-            // 禁用在遇到未知属性时抛出异常的特性
-            objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectMapper mapper = objectMapper;
+        return mapper != null ? mapper : DefaultHolder.OBJECT_MAPPER;
+    }
+
+    /**
+     * 创建具有默认配置的ObjectMapper实例：序列化时忽略null值，反序列化时忽略未知属性。
+     * 系统属性{@value JacksonModules#BLACKBIRD_PROPERTY}为true时注册Blackbird模块；
+     * BufferRecycler池使用{@link JacksonRecyclerPools#defaultStrategy()}
+     *
+     * @return 新的ObjectMapper实例
+     */
+    public static ObjectMapper createDefaultObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        // 设置序列化时忽略值为null的属性
+        mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        // 禁用在遇到未知属性时抛出异常的特性
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (JacksonModules.isBlackbirdEnabled()) {
+            JacksonModules.registerBlackbird(mapper);
         }
-        return objectMapper;
+        JacksonRecyclerPools.apply(mapper, JacksonRecyclerPools.defaultStrategy());
+        return mapper;
     }
 
     /**
@@ -88,29 +283,123 @@ public class JacksonUtils {
     }
 
     /**
-     * 将输入对象转换为字符串，如果对象本身是字符串则直接返回，否则将其转换为JSON字符串
+     * 将输入数据读取为指定JavaType的对象。
+     * 字符串按JSON文本解析；byte[]、InputStream、ByteBuffer按UTF-8 JSON字节解析；
+     * 其他对象通过Jackson的TokenBuffer直接转换，不生成中间JSON字符串
+     *
+     * @param current  使用的缓存
+     * @param content  输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 读取后的对象
+     * @throws IOException 序列化或反序列化失败时抛出
+     */
+    static <T> T readValue(JacksonCache current, Object content, JavaType javaType) throws IOException {
+        if (content instanceof String st) {
+            return current.reader(javaType).readValue(st);
+        }
+        if (content instanceof byte[] bytes) {
+            return current.reader(javaType).readValue(bytes);
+        }
+        if (content instanceof InputStream in) {
+            return current.reader(javaType).readValue(in);
+        }
+        if (content instanceof ByteBuffer buffer) {
+            return readValue(current, buffer, javaType);
+        }
+        return convert(current, content, javaType);
+    }
+
+    /**
+     * 从ByteBuffer读取指定JavaType的对象，读取范围为position到limit，不改变buffer的position。
+     * 堆内buffer直接解析其底层数组，直接内存buffer以流的方式解析，均不产生中间拷贝
+     *
+     * @param current  使用的缓存
+     * @param buffer   UTF-8编码的JSON数据
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 读取后的对象
+     * @throws IOException 反序列化失败时抛出
+     */
+    private static <T> T readValue(JacksonCache current, ByteBuffer buffer, JavaType javaType) throws IOException {
+        ObjectReader reader = current.reader(javaType);
+        if (buffer.hasArray()) {
+            return reader.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return reader.readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+
+    /**
+     * 将对象经由TokenBuffer转换为指定JavaType的对象，序列化与反序列化配置与JSON字符串往返一致
+     *
+     * @param current  使用的缓存
+     * @param value    要转换的对象
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 转换后的新对象
+     * @throws IOException 序列化或反序列化失败时抛出
+     */
+    static <T> T convert(JacksonCache current, Object value, JavaType javaType) throws IOException {
+        try (JsonParser parser = bufferedParser(current, value)) {
+            return current.reader(javaType).readValue(parser);
+        }
+    }
+
+    /**
+     * 将对象序列化到TokenBuffer，返回回放其token的解析器，数值类型与JSON文本解析保持一致
+     *
+     * @param current 当前缓存
+     * @param value   要序列化的对象
+     * @return 解析器
+     * @throws IOException 序列化失败时抛出
+     */
+    static JsonParser bufferedParser(JacksonCache current, Object value) throws IOException {
+        ObjectMapper mapper = current.getObjectMapper();
+        boolean bigDecimalForFloats = mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        TokenBuffer buffer = new TokenBuffer(mapper, false);
+        buffer.forceUseOfBigDecimal(bigDecimalForFloats);
+        current.writerForValue(value).writeValue(buffer, value);
+        return new TextualNumberParser(buffer.asParser(), bigDecimalForFloats);
+    }
+
+    /**
+     * 为输入数据创建流式解析器，输入类型的处理与{@link #readValue(JacksonCache, Object, JavaType)}一致
      *
-     * @param content 输入对象
-     * @return 字符串形式的结果
+     * @param current 当前缓存
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @return 解析器
+     * @throws IOException 创建失败时抛出
      */
-    private static String valueString(Object content) {
-        return content instanceof String st ? st : toJson(content);
+    static JsonParser createParser(JacksonCache current, Object content) throws IOException {
+        ObjectMapper mapper = current.getObjectMapper();
+        if (content instanceof String st) {
+            return mapper.createParser(st);
+        }
+        if (content instanceof byte[] bytes) {
+            return mapper.createParser(bytes);
+        }
+        if (content instanceof InputStream in) {
+            return mapper.createParser(in);
+        }
+        if (content instanceof ByteBuffer buffer) {
+            return buffer.hasArray()
+                    ? mapper.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining())
+                    : mapper.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+        }
+        return bufferedParser(current, content);
     }
 
     /**
      * 将JSON数据反序列化为指定类型的对象
      *
-     * @param content 输入的JSON数据，可以是字符串或其他对象
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
      * @param clazz   目标对象的类类型
      * @param <T>     泛型类型
      * @return 反序列化后的对象
      */
     public static <T> T fromJson(Object content, Class<T> clazz) {
-        try {
-            return getObjectMapper().readValue(valueString(content), clazz);
-        } catch (JsonProcessingException e) {
-            throw newInstance(e);
-        }
+        JacksonCache current = getCache();
+        return read(current, content, current.type(clazz));
     }
 
     /**
@@ -122,11 +411,8 @@ public class JacksonUtils {
      * @return 反序列化后的对象
      */
     public static <T> T fromJson(Object content, TypeReference<T> reference) {
-        try {
-            return getObjectMapper().readValue(valueString(content), reference);
-        } catch (Exception e) {
-            throw newInstance(e);
-        }
+        JacksonCache current = getCache();
+        return read(current, content, current.type(reference));
     }
 
     /**
@@ -138,97 +424,1019 @@ public class JacksonUtils {
      * @return 反序列化后的对象
      */
     public static <T> T fromJson(Object content, JavaType javaType) {
+        return read(getCache(), content, javaType);
+    }
+
+    /**
+     * 读取并记录埋点，异常转换为服务异常
+     */
+    static <T> T read(JacksonCache current, Object content, JavaType javaType) {
+        long start = JacksonMetrics.start();
         try {
-            return getObjectMapper().readValue(valueString(content), javaType);
+            T value = readValue(current, content, javaType);
+            JacksonMetrics.recordRead(start, javaType, content);
+            return value;
         } catch (Exception e) {
             throw newInstance(e);
         }
     }
 
     /**
-     * 将JSON数据反序列化为指定类型的列表
+     * 将UTF-8编码的JSON字节数组片段反序列化为指定类型的对象
      *
-     * @param content 输入的JSON数据，可以是字符串或其他对象
-     * @param clazz   列表元素的类类型
+     * @param content 输入的JSON字节数组
+     * @param offset  起始位置
+     * @param length  读取长度
+     * @param clazz   目标对象的类类型
      * @param <T>     泛型类型
-     * @return 反序列化后的列表
+     * @return 反序列化后的对象
      */
-    public static <T> List<T> fromList(Object content, Class<T> clazz) {
-        return fromJson(valueString(content), getTypeFactory().constructCollectionType(List.class, clazz));
+    public static <T> T fromJson(byte[] content, int offset, int length, Class<T> clazz) {
+        return fromJson(content, offset, length, getCache().type(clazz));
     }
 
-/**
- * 将输入的JSON数据反序列化为包含Map<String, Object>的列表。
- * 输入的JSON数据可以是字符串或其他对象，如果是其他对象会先将其转换为JSON字符串。
- *
- * @param content 输入的JSON数据，可以是字符串或其他对象
- * @return 反序列化后的包含Map<String, Object>的列表
- */
-public static List<Map<String, Object>> fromListMap(Object content) {
-    return fromJson(valueString(content), getTypeFactory().constructCollectionType(List.class, Map.class));
-}
+    /**
+     * 将UTF-8编码的JSON字节数组片段反序列化为指定类型引用的对象
+     *
+     * @param content   输入的JSON字节数组
+     * @param offset    起始位置
+     * @param length    读取长度
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(byte[] content, int offset, int length, TypeReference<T> reference) {
+        return fromJson(content, offset, length, getCache().type(reference));
+    }
 
     /**
-     * 将JSON数据反序列化为包含指定键值类型的Map的列表
+     * 将UTF-8编码的JSON字节数组片段反序列化为指定JavaType的对象
      *
-     * @param content    输入的JSON数据，可以是字符串或其他对象
-     * @param keyClass   键的类类型
-     * @param valueClass 值的类类型
-     * @param <K>        键的泛型类型
-     * @param <V>        值的泛型类型
-     * @return 反序列化后的列表
+     * @param content  输入的JSON字节数组
+     * @param offset   起始位置
+     * @param length   读取长度
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 反序列化后的对象
      */
-    public static <K, V> List<Map<K, V>> fromListMap(Object content, Class<K> keyClass, Class<V> valueClass) {
-        return fromJson(valueString(content), getTypeFactory().constructCollectionType(List.class, getTypeFactory().constructMapType(Map.class, keyClass, valueClass)));
+    public static <T> T fromJson(byte[] content, int offset, int length, JavaType javaType) {
+        long start = JacksonMetrics.start();
+        try {
+            T value = getCache().reader(javaType).readValue(content, offset, length);
+            JacksonMetrics.recordRead(start, javaType, length);
+            return value;
+        } catch (Exception e) {
+            throw newInstance(e);
+        }
     }
 
     /**
-     * 将JSON数据反序列化为Map<String, Object>
+     * 将UTF-8编码的JSON字节数组反序列化为指定类型的对象
      *
-     * @param content 输入的JSON数据，可以是字符串或其他对象
-     * @return 反序列化后的Map
+     * @param content 输入的JSON字节数组
+     * @param clazz   目标对象的类类型
+     * @param <T>     泛型类型
+     * @return 反序列化后的对象
      */
-    public static Map<String, Object> fromMap(Object content) {
-        return fromJson(valueString(content), new TypeReference<>() {
-        });
+    public static <T> T fromJson(byte[] content, Class<T> clazz) {
+        return fromJson(content, 0, content.length, clazz);
     }
 
     /**
-     * 将JSON数据反序列化为指定键值类型的Map
+     * 将UTF-8编码的JSON字节数组反序列化为指定类型引用的对象
      *
-     * @param content    输入的JSON数据，可以是字符串或其他对象
-     * @param keyClass   键的类类型
-     * @param valueClass 值的类类型
-     * @param <K>        键的泛型类型
-     * @param <V>        值的泛型类型
-     * @return 反序列化后的Map
+     * @param content   输入的JSON字节数组
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 反序列化后的对象
      */
-    public static <K, V> Map<K, V> fromMap(Object content, Class<K> keyClass, Class<V> valueClass) {
-        return fromJson(valueString(content), getTypeFactory().constructMapType(Map.class, keyClass, valueClass));
+    public static <T> T fromJson(byte[] content, TypeReference<T> reference) {
+        return fromJson(content, 0, content.length, reference);
     }
 
     /**
-     * 将对象序列化为JSON字符串
+     * 将UTF-8编码的JSON字节数组反序列化为指定JavaType的对象
      *
-     * @param value 要序列化的对象
-     * @return 序列化后的JSON字符串
+     * @param content  输入的JSON字节数组
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 反序列化后的对象
      */
-    public static String toJson(Object value) {
+    public static <T> T fromJson(byte[] content, JavaType javaType) {
+        return fromJson(content, 0, content.length, javaType);
+    }
+
+    /**
+     * 从输入流读取JSON数据并反序列化为指定类型的对象。
+     * 是否关闭输入流取决于ObjectMapper的AUTO_CLOSE_SOURCE特性（默认读取完成后关闭）
+     *
+     * @param content 输入流，UTF-8等JSON编码会自动识别
+     * @param clazz   目标对象的类类型
+     * @param <T>     泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(InputStream content, Class<T> clazz) {
+        return fromJson(content, getCache().type(clazz));
+    }
+
+    /**
+     * 从输入流读取JSON数据并反序列化为指定类型引用的对象
+     *
+     * @param content   输入流
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(InputStream content, TypeReference<T> reference) {
+        return fromJson(content, getCache().type(reference));
+    }
+
+    /**
+     * 从输入流读取JSON数据并反序列化为指定JavaType的对象
+     *
+     * @param content  输入流
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(InputStream content, JavaType javaType) {
+        long start = JacksonMetrics.start();
         try {
-            return getObjectMapper().writeValueAsString(value);
-        } catch (JsonProcessingException e) {
+            T value = getCache().reader(javaType).readValue(content);
+            JacksonMetrics.recordRead(start, javaType, -1);
+            return value;
+        } catch (Exception e) {
             throw newInstance(e);
         }
     }
 
     /**
-     * 创建一个新的服务异常实例
+     * 以内存映射方式读取JSON文件并反序列化为指定类型的对象，文件内容不会整体复制到堆内存，支持超过2GB的文件
      *
-     * @param cause 异常原因
-     * @return 服务异常实例
+     * @param path  JSON文件路径
+     * @param clazz 目标对象的类类型
+     * @param <T>   泛型类型
+     * @return 反序列化后的对象
      */
-    private static ServiceException newInstance(Throwable cause) {
-        return ServiceException.of(JSON_PARSE_ERROR, cause);
+    public static <T> T fromJson(Path path, Class<T> clazz) {
+        return fromJson(path, getCache().type(clazz));
+    }
+
+    /**
+     * 以内存映射方式读取JSON文件并反序列化为指定类型引用的对象
+     *
+     * @param path      JSON文件路径
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(Path path, TypeReference<T> reference) {
+        return fromJson(path, getCache().type(reference));
+    }
+
+    /**
+     * 以内存映射方式读取JSON文件并反序列化为指定JavaType的对象
+     *
+     * @param path     JSON文件路径
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(Path path, JavaType javaType) {
+        long start = JacksonMetrics.start();
+        try {
+            MappedJsonFile file = MappedJsonFile.map(path);
+            T value = getCache().reader(javaType).readValue(file.newInputStream());
+            JacksonMetrics.recordRead(start, javaType, file.size());
+            return value;
+        } catch (Exception e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 从ByteBuffer读取UTF-8编码的JSON数据并反序列化为指定类型的对象。
+     * 读取范围为position到limit，不改变buffer的position；支持堆内与直接内存buffer
+     *
+     * @param content 输入的ByteBuffer
+     * @param clazz   目标对象的类类型
+     * @param <T>     泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(ByteBuffer content, Class<T> clazz) {
+        return fromJson(content, getCache().type(clazz));
+    }
+
+    /**
+     * 从ByteBuffer读取UTF-8编码的JSON数据并反序列化为指定类型引用的对象
+     *
+     * @param content   输入的ByteBuffer
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(ByteBuffer content, TypeReference<T> reference) {
+        return fromJson(content, getCache().type(reference));
+    }
+
+    /**
+     * 从ByteBuffer读取UTF-8编码的JSON数据并反序列化为指定JavaType的对象
+     *
+     * @param content  输入的ByteBuffer
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 反序列化后的对象
+     */
+    public static <T> T fromJson(ByteBuffer content, JavaType javaType) {
+        return read(getCache(), content, javaType);
     }
 
+    /**
+     * 将JSON数据反序列化为指定类型的列表
+     *
+     * @param content 输入的JSON数据，可以是字符串或其他对象
+     * @param clazz   列表元素的类类型
+     * @param <T>     泛型类型
+     * @return 反序列化后的列表
+     */
+    public static <T> List<T> fromList(Object content, Class<T> clazz) {
+        return fromJson(content, getCache().listType(clazz));
+    }
+
+    /**
+     * 以内存映射方式读取JSON文件中的数组，文件内容不会整体复制到堆内存
+     *
+     * @param path  JSON数组文件路径
+     * @param clazz 列表元素的类类型
+     * @param <T>   泛型类型
+     * @return 反序列化后的列表
+     */
+    public static <T> List<T> fromList(Path path, Class<T> clazz) {
+        return fromJson(path, getCache().listType(clazz));
+    }
+
+    /**
+     * 以内存映射方式并行读取JSON文件中的数组：在顶层元素之间把数组切分为多个数据块，在默认执行器上并行解析，
+     * 结果顺序与文件一致。适合启动时加载的大型数据集，小于1MB的文件按顺序读取
+     *
+     * @param path  JSON数组文件路径
+     * @param clazz 列表元素的类类型
+     * @param <T>   泛型类型
+     * @return 反序列化后的列表
+     */
+    public static <T> List<T> fromListParallel(Path path, Class<T> clazz) {
+        return fromListParallel(path, getCache().type(clazz));
+    }
+
+    /**
+     * 以内存映射方式并行读取JSON文件中的数组，结果顺序与文件一致
+     *
+     * @param path     JSON数组文件路径
+     * @param javaType 列表元素的JavaType
+     * @param <T>      泛型类型
+     * @return 反序列化后的列表
+     */
+    public static <T> List<T> fromListParallel(Path path, JavaType javaType) {
+        long start = JacksonMetrics.start();
+        JacksonCache current = getCache();
+        JavaType listType = current.getTypeFactory().constructCollectionType(List.class, javaType);
+        ObjectReader reader = current.reader(listType);
+        try {
+            MappedJsonFile file = MappedJsonFile.map(path);
+            List<T> values = file.readList(reader, JacksonExecutors.defaultExecutor(), JacksonExecutors.defaultParallelism());
+            JacksonMetrics.recordRead(start, listType, file.size());
+            return values;
+        } catch (Exception e) {
+            throw newInstance(e);
+        }
+    }
+
+/**
+ * 将输入的JSON数据反序列化为包含Map<String, Object>的列表。
+ * 输入的JSON数据可以是字符串或其他对象，如果是其他对象会直接转换，不经过中间JSON字符串。
+ *
+ * @param content 输入的JSON数据，可以是字符串或其他对象
+ * @return 反序列化后的包含Map<String, Object>的列表
+ */
+public static List<Map<String, Object>> fromListMap(Object content) {
+    return fromJson(content, getCache().listType(Map.class));
+}
+
+    /**
+     * 将JSON数据反序列化为包含指定键值类型的Map的列表
+     *
+     * @param content    输入的JSON数据，可以是字符串或其他对象
+     * @param keyClass   键的类类型
+     * @param valueClass 值的类类型
+     * @param <K>        键的泛型类型
+     * @param <V>        值的泛型类型
+     * @return 反序列化后的列表
+     */
+    public static <K, V> List<Map<K, V>> fromListMap(Object content, Class<K> keyClass, Class<V> valueClass) {
+        return fromJson(content, getCache().listMapType(keyClass, valueClass));
+    }
+
+    /**
+     * 将JSON数据反序列化为Map<String, Object>
+     *
+     * @param content 输入的JSON数据，可以是字符串或其他对象
+     * @return 反序列化后的Map
+     */
+    public static Map<String, Object> fromMap(Object content) {
+        return fromJson(content, getCache().mapType(String.class, Object.class));
+    }
+
+    /**
+     * 将JSON数据反序列化为指定键值类型的Map
+     *
+     * @param content    输入的JSON数据，可以是字符串或其他对象
+     * @param keyClass   键的类类型
+     * @param valueClass 值的类类型
+     * @param <K>        键的泛型类型
+     * @param <V>        值的泛型类型
+     * @return 反序列化后的Map
+     */
+    public static <K, V> Map<K, V> fromMap(Object content, Class<K> keyClass, Class<V> valueClass) {
+        return fromJson(content, getCache().mapType(keyClass, valueClass));
+    }
+
+    /**
+     * 将JSON数据读取为紧凑的只读Map，适合大量结构相似的小型文档常驻内存的场景。
+     * 相同结构的对象共享键布局，数值不装箱存放；值的类型与{@link #fromMap(Object)}一致，嵌套对象同样为{@link CompactMap}，
+     * 嵌套数组为只读List
+     *
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @return 紧凑Map，输入为JSON null时返回null
+     */
+    public static CompactMap fromMapCompact(Object content) {
+        long start = JacksonMetrics.start();
+        JacksonCache current = getCache();
+        try (JsonParser parser = createParser(current, content)) {
+            CompactMap map = compactReader(current).readMap(parser);
+            JacksonMetrics.recordRead(start, current, CompactMap.class, content);
+            return map;
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 将JSON数组读取为紧凑的只读Map列表，元素为{@link CompactMap}
+     *
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @return 只读列表，输入为JSON null时返回null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static List<Map<String, Object>> fromListMapCompact(Object content) {
+        long start = JacksonMetrics.start();
+        JacksonCache current = getCache();
+        try (JsonParser parser = createParser(current, content)) {
+            List list = compactReader(current).readListMap(parser);
+            JacksonMetrics.recordRead(start, current, List.class, content);
+            return list;
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    private static CompactJsonReader compactReader(JacksonCache current) {
+        return CompactJsonReader.of(current.getObjectMapper().getDeserializationConfig());
+    }
+
+    /**
+     * 按JSON Pointer（如"/header/traceId"、"/items/0/id"）提取单个值，不绑定整个文档。
+     * 解析器跳过与指针无关的子树，找到目标值后立即停止读取
+     *
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param pointer JSON Pointer，空字符串表示整个文档
+     * @param clazz   目标对象的类类型
+     * @param <T>     泛型类型
+     * @return 提取的值，路径不存在时返回null
+     */
+    public static <T> T extract(Object content, String pointer, Class<T> clazz) {
+        return extract(content, pointer, getCache().type(clazz));
+    }
+
+    /**
+     * 按JSON Pointer提取单个值，不绑定整个文档
+     *
+     * @param content   输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param pointer   JSON Pointer，空字符串表示整个文档
+     * @param reference 目标对象的类型引用
+     * @param <T>       泛型类型
+     * @return 提取的值，路径不存在时返回null
+     */
+    public static <T> T extract(Object content, String pointer, TypeReference<T> reference) {
+        return extract(content, pointer, getCache().type(reference));
+    }
+
+    /**
+     * 按JSON Pointer提取单个值，不绑定整个文档
+     *
+     * @param content  输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param pointer  JSON Pointer，空字符串表示整个文档
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 提取的值，路径不存在时返回null
+     */
+    public static <T> T extract(Object content, String pointer, JavaType javaType) {
+        JacksonCache current = getCache();
+        long start = JacksonMetrics.start();
+        try {
+            TokenBuffer value = extractValues(current, content, List.of(JsonPointer.compile(pointer)))[0];
+            T result = value == null ? null : bind(current, value, javaType);
+            JacksonMetrics.recordRead(start, javaType, content);
+            return result;
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 按多个JSON Pointer一次性提取值，只读取一遍输入，全部指针命中后立即停止。
+     * 值的类型与{@link #fromMap(Object)}一致
+     *
+     * @param content  输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param pointers JSON Pointer集合
+     * @return 以指针为键的提取结果，按指针的给定顺序排列，路径不存在的指针不出现在结果中
+     */
+    public static Map<String, Object> extractAll(Object content, Collection<String> pointers) {
+        JacksonCache current = getCache();
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(pointers));
+        List<JsonPointer> compiled = new ArrayList<>(distinct.size());
+        for (String pointer : distinct) {
+            compiled.add(JsonPointer.compile(pointer));
+        }
+        long start = JacksonMetrics.start();
+        try {
+            TokenBuffer[] values = extractValues(current, content, compiled);
+            JavaType objectType = current.type(Object.class);
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    result.put(distinct.get(i), bind(current, values[i], objectType));
+                }
+            }
+            JacksonMetrics.recordRead(start, current, Map.class, content);
+            return result;
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    private static TokenBuffer[] extractValues(JacksonCache current, Object content, List<JsonPointer> pointers)
+            throws IOException {
+        try (JsonParser parser = createParser(current, content)) {
+            return new JsonPointerExtractor(pointers).extract(parser);
+        }
+    }
+
+    private static <T> T bind(JacksonCache current, TokenBuffer value, JavaType javaType) throws IOException {
+        try (JsonParser parser = value.asParser(current.getObjectMapper())) {
+            return current.reader(javaType).readValue(parser);
+        }
+    }
+
+    /**
+     * 以迭代器方式逐个读取JSON字符串中数组的元素，不构建完整列表
+     *
+     * @param content 输入的JSON数组字符串
+     * @param clazz   元素的类类型，读取Map元素时可传入Map.class
+     * @param <T>     泛型类型
+     * @return 元素迭代器，读取完毕或出错时自动关闭
+     */
+    public static <T> JsonArrayIterator<T> iterateList(String content, Class<T> clazz) {
+        return iterateList(content, getCache().type(clazz));
+    }
+
+    /**
+     * 以迭代器方式逐个读取JSON字符串中数组的元素，不构建完整列表
+     *
+     * @param content  输入的JSON数组字符串
+     * @param javaType 元素的JavaType
+     * @param <T>      泛型类型
+     * @return 元素迭代器，读取完毕或出错时自动关闭
+     */
+    public static <T> JsonArrayIterator<T> iterateList(String content, JavaType javaType) {
+        JacksonCache current = getCache();
+        try {
+            return new JsonArrayIterator<>(current.getObjectMapper().createParser(content), current.reader(javaType));
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 以迭代器方式逐个读取输入流中JSON数组的元素，内存占用与数组长度无关。
+     * 关闭迭代器时按ObjectMapper的AUTO_CLOSE_SOURCE特性（默认开启）关闭输入流
+     *
+     * @param content 输入流
+     * @param clazz   元素的类类型
+     * @param <T>     泛型类型
+     * @return 元素迭代器
+     */
+    public static <T> JsonArrayIterator<T> iterateList(InputStream content, Class<T> clazz) {
+        return iterateList(content, getCache().type(clazz));
+    }
+
+    /**
+     * 以迭代器方式逐个读取输入流中JSON数组的元素，内存占用与数组长度无关
+     *
+     * @param content  输入流
+     * @param javaType 元素的JavaType
+     * @param <T>      泛型类型
+     * @return 元素迭代器
+     */
+    public static <T> JsonArrayIterator<T> iterateList(InputStream content, JavaType javaType) {
+        JacksonCache current = getCache();
+        try {
+            return new JsonArrayIterator<>(current.getObjectMapper().createParser(content), current.reader(javaType));
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 以迭代器方式逐个读取文件中JSON数组的元素，文件以内存映射方式读取
+     *
+     * @param path  JSON文件路径
+     * @param clazz 元素的类类型
+     * @param <T>   泛型类型
+     * @return 元素迭代器
+     */
+    public static <T> JsonArrayIterator<T> iterateList(Path path, Class<T> clazz) {
+        return iterateList(path, getCache().type(clazz));
+    }
+
+    /**
+     * 以迭代器方式逐个读取文件中JSON数组的元素，文件以内存映射方式读取
+     *
+     * @param path     JSON文件路径
+     * @param javaType 元素的JavaType
+     * @param <T>      泛型类型
+     * @return 元素迭代器
+     */
+    public static <T> JsonArrayIterator<T> iterateList(Path path, JavaType javaType) {
+        JacksonCache current = getCache();
+        try {
+            JsonParser parser = current.getObjectMapper().createParser(MappedJsonFile.map(path).newInputStream());
+            return new JsonArrayIterator<>(parser, current.reader(javaType));
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 以惰性Stream方式读取JSON字符串中数组的元素，使用完毕后应关闭Stream
+     *
+     * @param content 输入的JSON数组字符串
+     * @param clazz   元素的类类型
+     * @param <T>     泛型类型
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamList(String content, Class<T> clazz) {
+        return iterateList(content, clazz).stream();
+    }
+
+    /**
+     * 以惰性Stream方式读取输入流中JSON数组的元素，使用完毕后应关闭Stream
+     *
+     * @param content 输入流
+     * @param clazz   元素的类类型
+     * @param <T>     泛型类型
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamList(InputStream content, Class<T> clazz) {
+        return iterateList(content, clazz).stream();
+    }
+
+    /**
+     * 以惰性Stream方式读取文件中JSON数组的元素，应在try-with-resources中使用以关闭文件
+     *
+     * @param path  JSON文件路径
+     * @param clazz 元素的类类型
+     * @param <T>   泛型类型
+     * @return 元素Stream
+     */
+    public static <T> Stream<T> streamList(Path path, Class<T> clazz) {
+        return iterateList(path, clazz).stream();
+    }
+
+    /**
+     * 创建增量解码器，依次喂入数据块，每个完整的顶层值绑定为对象返回。
+     * 输入可以是单个值，也可以是以空白分隔的多个值
+     *
+     * @param clazz 值的类类型
+     * @param <T>   泛型类型
+     * @return 增量解码器
+     */
+    public static <T> JsonChunkDecoder<T> decoder(Class<T> clazz) {
+        return decoder(getCache().type(clazz));
+    }
+
+    /**
+     * 创建增量解码器，依次喂入数据块，每个完整的顶层值绑定为对象返回
+     *
+     * @param javaType 值的JavaType
+     * @param <T>      泛型类型
+     * @return 增量解码器
+     */
+    public static <T> JsonChunkDecoder<T> decoder(JavaType javaType) {
+        return newDecoder(javaType, false);
+    }
+
+    /**
+     * 创建顶层数组的增量解码器，数组的每个元素一旦完整即绑定为对象返回，内存占用取决于单个元素的大小
+     *
+     * @param clazz 元素的类类型
+     * @param <T>   泛型类型
+     * @return 增量解码器
+     */
+    public static <T> JsonChunkDecoder<T> listDecoder(Class<T> clazz) {
+        return listDecoder(getCache().type(clazz));
+    }
+
+    /**
+     * 创建顶层数组的增量解码器，数组的每个元素一旦完整即绑定为对象返回
+     *
+     * @param javaType 元素的JavaType
+     * @param <T>      泛型类型
+     * @return 增量解码器
+     */
+    public static <T> JsonChunkDecoder<T> listDecoder(JavaType javaType) {
+        return newDecoder(javaType, true);
+    }
+
+    private static <T> JsonChunkDecoder<T> newDecoder(JavaType javaType, boolean unwrapArray) {
+        JacksonCache current = getCache();
+        try {
+            JsonParser parser = current.getObjectMapper().getFactory().createNonBlockingByteBufferParser();
+            return new JsonChunkDecoder<>(parser, current.reader(javaType), unwrapArray);
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 逐个读取JSON字符串中数组的元素并回调，读取结束后释放资源
+     *
+     * @param content 输入的JSON数组字符串
+     * @param clazz   元素的类类型
+     * @param action  元素回调
+     * @param <T>     泛型类型
+     */
+    public static <T> void forEachList(String content, Class<T> clazz, Consumer<? super T> action) {
+        forEachRemaining(iterateList(content, clazz), action);
+    }
+
+    /**
+     * 逐个读取输入流中JSON数组的元素并回调，读取结束后释放资源
+     *
+     * @param content 输入流
+     * @param clazz   元素的类类型
+     * @param action  元素回调
+     * @param <T>     泛型类型
+     */
+    public static <T> void forEachList(InputStream content, Class<T> clazz, Consumer<? super T> action) {
+        forEachRemaining(iterateList(content, clazz), action);
+    }
+
+    /**
+     * 逐个读取文件中JSON数组的元素并回调，读取结束后关闭文件
+     *
+     * @param path   JSON文件路径
+     * @param clazz  元素的类类型
+     * @param action 元素回调
+     * @param <T>    泛型类型
+     */
+    public static <T> void forEachList(Path path, Class<T> clazz, Consumer<? super T> action) {
+        forEachRemaining(iterateList(path, clazz), action);
+    }
+
+    /**
+     * 将迭代器剩余元素依次交给回调处理，结束后关闭迭代器
+     *
+     * @param iterator 元素迭代器
+     * @param action   元素回调
+     * @param <T>      泛型类型
+     */
+    private static <T> void forEachRemaining(JsonArrayIterator<T> iterator, Consumer<? super T> action) {
+        try (iterator) {
+            iterator.forEachRemaining(action);
+        }
+    }
+
+    /**
+     * 深拷贝对象，按对象的运行时类型经由TokenBuffer复制，不生成中间JSON字符串。
+     * 泛型容器（如List&lt;Dto&gt;）的元素类型在运行时不可见，应使用带类型参数的重载
+     *
+     * @param value 要拷贝的对象
+     * @param <T>   泛型类型
+     * @return 拷贝后的新对象，value为null时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof JsonNode node) {
+            return (T) node.deepCopy();
+        }
+        return deepCopy(value, getCache().type(value.getClass()));
+    }
+
+    /**
+     * 按指定类型引用深拷贝对象
+     *
+     * @param value     要拷贝的对象
+     * @param reference 对象的类型引用
+     * @param <T>       泛型类型
+     * @return 拷贝后的新对象
+     */
+    public static <T> T deepCopy(T value, TypeReference<T> reference) {
+        return deepCopy(value, getCache().type(reference));
+    }
+
+    /**
+     * 按指定JavaType深拷贝对象
+     *
+     * @param value    要拷贝的对象
+     * @param javaType 对象的JavaType
+     * @param <T>      泛型类型
+     * @return 拷贝后的新对象
+     */
+    public static <T> T deepCopy(T value, JavaType javaType) {
+        return deepCopy(getCache(), value, javaType);
+    }
+
+    /**
+     * 深拷贝并记录埋点，拷贝经由TokenBuffer，负载大小未知
+     */
+    static <T> T deepCopy(JacksonCache current, T value, JavaType javaType) {
+        long start = JacksonMetrics.start();
+        try {
+            T copy = convert(current, value, javaType);
+            JacksonMetrics.recordRead(start, javaType, -1);
+            return copy;
+        } catch (Exception e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 将JSON数据直接绑定到已有对象上，JSON中出现的属性覆盖对象的对应属性，其余属性保持不变。
+     * 嵌套对象与集合按Jackson默认规则替换，需要递归合并时使用{@link #mergePatch(Object, Object)}
+     *
+     * @param target  被更新的对象，不能为null
+     * @param content 输入的JSON数据，可以是字符串、字节数据或其他对象
+     * @param <T>     泛型类型
+     * @return 更新后的对象，通常即target本身
+     */
+    public static <T> T update(T target, Object content) {
+        Objects.requireNonNull(target, "target must not be null");
+        JacksonCache current = getCache();
+        JavaType javaType = current.type(target.getClass());
+        long start = JacksonMetrics.start();
+        try (JsonParser parser = createParser(current, content)) {
+            T updated = current.reader(javaType).withValueToUpdate(target).readValue(parser);
+            JacksonMetrics.recordRead(start, javaType, content);
+            return updated;
+        } catch (Exception e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 将JSON Merge Patch（RFC 7386）直接应用到已有对象：null表示删除，嵌套对象递归合并，数组整体替换。
+     * 补丁从解析器直接绑定到对象，不经过中间的字符串或Map
+     *
+     * @param target 被修改的对象，不能为null
+     * @param patch  补丁，可以是字符串、字节数据或其他对象
+     * @param <T>    泛型类型
+     * @return 应用补丁后的对象；补丁为JSON对象时即target本身，否则为按补丁创建的新值
+     */
+    public static <T> T mergePatch(T target, Object patch) {
+        Objects.requireNonNull(target, "target must not be null");
+        JacksonCache current = getCache();
+        long start = JacksonMetrics.start();
+        try {
+            T patched = JsonMergePatch.apply(current, target, patch);
+            JacksonMetrics.recordRead(start, current, target.getClass(), patch);
+            return patched;
+        } catch (Exception e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 计算从before到after的JSON Merge Patch（RFC 7386），两个对象的token流逐层比较，只输出变化的属性
+     *
+     * @param before 原对象
+     * @param after  新对象
+     * @return 补丁的JSON字符串，没有变化时为"{}"
+     */
+    public static String diff(Object before, Object after) {
+        JacksonCache current = getCache();
+        long start = JacksonMetrics.start();
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = current.getObjectMapper().createGenerator(out)) {
+            JsonMergePatch.diff(current, before, after, generator);
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+        String patch = out.toString();
+        JacksonMetrics.recordWrite(start, current, after, patch);
+        return patch;
+    }
+
+    /**
+     * 计算从before到after的JSON Merge Patch（RFC 7386），以UTF-8编码写入输出流，写入后刷新但不关闭输出流
+     *
+     * @param before 原对象
+     * @param after  新对象
+     * @param out    目标输出流
+     */
+    public static void diff(Object before, Object after, OutputStream out) {
+        JacksonCache current = getCache();
+        long start = JacksonMetrics.start();
+        try (JsonGenerator generator = current.getObjectMapper().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            JsonMergePatch.diff(current, before, after, generator);
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+        JacksonMetrics.recordWrite(start, current, after, null);
+    }
+
+    /**
+     * 将对象序列化为JSON字符串
+     *
+     * @param value 要序列化的对象
+     * @return 序列化后的JSON字符串
+     */
+    public static String toJson(Object value) {
+        return toJson(getCache(), value);
+    }
+
+    /**
+     * 序列化为字符串并记录埋点，异常转换为服务异常
+     */
+    static String toJson(JacksonCache current, Object value) {
+        long start = JacksonMetrics.start();
+        try {
+            String json = current.writerForValue(value).writeValueAsString(value);
+            JacksonMetrics.recordWrite(start, current, value, json);
+            return json;
+        } catch (JsonProcessingException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 将对象序列化为UTF-8编码的JSON字节数组
+     *
+     * @param value 要序列化的对象
+     * @return 序列化后的JSON字节数组
+     */
+    public static byte[] toJsonBytes(Object value) {
+        return toJsonBytes(getCache(), value);
+    }
+
+    /**
+     * 序列化为字节数组并记录埋点，异常转换为服务异常
+     */
+    static byte[] toJsonBytes(JacksonCache current, Object value) {
+        long start = JacksonMetrics.start();
+        try {
+            byte[] json = current.writerForValue(value).writeValueAsBytes(value);
+            JacksonMetrics.recordWrite(start, current, value, json);
+            return json;
+        } catch (JsonProcessingException e) {
+            throw newInstance(e);
+        }
+    }
+
+    /**
+     * 将对象以UTF-8编码的JSON写入输出流，写入后刷新但不关闭输出流
+     *
+     * @param value 要序列化的对象
+     * @param out   目标输出流
+     */
+    public static void writeTo(Object value, OutputStream out) {
+        writeTo(getCache(), value, out);
+    }
+
+    /**
+     * 写入输出流并记录埋点，写入的字节数未知
+     */
+    static void writeTo(JacksonCache current, Object value, OutputStream out) {
+        long start = JacksonMetrics.start();
+        try (JsonGenerator generator = current.getObjectMapper().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            current.writerForValue(value).writeValue(generator, value);
+        } catch (IOException e) {
+            throw newInstance(e);
+        }
+        JacksonMetrics.recordWrite(start, current, value, null);
+    }
+
+    /**
+     * 批量将对象序列化为JSON字符串，条目数达到{@link #setBulk 批量配置}的阈值时并行处理。
+     * 结果保持输入顺序，单条失败不影响其余条目
+     *
+     * @param values 要序列化的对象
+     * @return 批量结果
+     */
+    public static JacksonBulk.Result<String> toJsonAll(Collection<?> values) {
+        return bulk.toJsonAll(values);
+    }
+
+    /**
+     * 批量将JSON数据反序列化为指定类型的对象，条目数达到{@link #setBulk 批量配置}的阈值时并行处理。
+     * 结果保持输入顺序，单条失败不影响其余条目
+     *
+     * @param contents 输入的JSON数据，每条可以是字符串、字节数据或其他对象
+     * @param clazz    目标对象的类类型
+     * @param <T>      泛型类型
+     * @return 批量结果
+     */
+    public static <T> JacksonBulk.Result<T> fromJsonAll(List<?> contents, Class<T> clazz) {
+        return bulk.fromJsonAll(contents, clazz);
+    }
+
+    /**
+     * 批量将JSON数据反序列化为指定JavaType的对象
+     *
+     * @param contents 输入的JSON数据，每条可以是字符串、字节数据或其他对象
+     * @param javaType 目标对象的JavaType
+     * @param <T>      泛型类型
+     * @return 批量结果
+     */
+    public static <T> JacksonBulk.Result<T> fromJsonAll(List<?> contents, JavaType javaType) {
+        return bulk.fromJsonAll(contents, javaType);
+    }
+
+    /**
+     * 将对象以UTF-8编码的JSON写入通道，写入后不关闭通道。
+     * 生成器自身带有缓冲，按块写入通道；通道须为阻塞模式
+     *
+     * @param value   要序列化的对象
+     * @param channel 目标通道
+     */
+    public static void writeTo(Object value, WritableByteChannel channel) {
+        writeTo(value, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * 创建一个新的服务异常实例，原因链中包含{@link StreamConstraintsException}时使用{@link #JSON_CONSTRAINT_ERROR}
+     *
+     * @param cause 异常原因
+     * @return 服务异常实例
+     */
+    static ServiceException newInstance(Throwable cause) {
+        for (Throwable t = cause; t != null; t = t.getCause()) {
+            if (t instanceof StreamConstraintsException) {
+                return ServiceException.of(JSON_CONSTRAINT_ERROR, cause);
+            }
+        }
+        return ServiceException.of(JSON_PARSE_ERROR, cause);
+    }
+
+    /**
+     * 以给定的读取约束替换ObjectMapper的JsonFactory上的约束，未设置的项沿用原有约束。
+     * 约束在解析过程中检查，超出时立即失败并抛出错误码为{@link #JSON_CONSTRAINT_ERROR}的服务异常；
+     * 对象之间经由TokenBuffer的转换不经过文本解析，不受约束
+     *
+     * @param mapper            要调整的ObjectMapper
+     * @param maxDocumentLength 文档的最大长度（字节或字符），为空时不变
+     * @param maxNestingDepth   对象与数组的最大嵌套深度，为空时不变
+     * @param maxStringLength   字符串的最大长度，为空时不变
+     * @param maxNumberLength   数字的最大长度，为空时不变
+     * @return 传入的ObjectMapper
+     */
+    public static ObjectMapper applyReadConstraints(ObjectMapper mapper, Long maxDocumentLength, Integer maxNestingDepth,
+                                                    Integer maxStringLength, Integer maxNumberLength) {
+        StreamReadConstraints.Builder builder = mapper.getFactory().streamReadConstraints().rebuild();
+        if (maxDocumentLength != null) {
+            builder.maxDocumentLength(maxDocumentLength);
+        }
+        if (maxNestingDepth != null) {
+            builder.maxNestingDepth(maxNestingDepth);
+        }
+        if (maxStringLength != null) {
+            builder.maxStringLength(maxStringLength);
+        }
+        if (maxNumberLength != null) {
+            builder.maxNumberLength(maxNumberLength);
+        }
+        mapper.getFactory().setStreamReadConstraints(builder.build());
+        return mapper;
+    }
+
+    /**
+     * 默认ObjectMapper实例的持有者，首次访问时初始化
+     */
+    private static final class DefaultHolder {
+        static final ObjectMapper OBJECT_MAPPER = createDefaultObjectMapper();
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JacksonWarmer
+ * 预热ObjectMapper：为给定类型预先构建并缓存序列化器、反序列化器以及对应的ObjectReader/ObjectWriter，
+ * 可选地对有无参构造器的类型执行若干次序列化与反序列化往返，使首批请求不再承担类型内省与序列化器构建的开销
+ *
+ * @author agent
+ * @since 2026/10/17 01:42
+ */
+public final class JacksonWarmer {
+
+    /**
+     * 预构建属性类型序列化器的最大嵌套深度
+     */
+    private static final int MAXIMUM_DEPTH = 8;
+
+    private JacksonWarmer() {
+    }
+
+    /**
+     * 预热缓存绑定的ObjectMapper，单个类型失败不影响其余类型
+     *
+     * @param cache      要预热的缓存，如JacksonUtils.getCache()或命名配置的缓存
+     * @param types      要预热的类型
+     * @param roundTrips 每个类型的往返次数，0表示只构建序列化器与反序列化器
+     * @return 预热结果
+     */
+    public static Result warmUp(JacksonCache cache, Collection<? extends Class<?>> types, int roundTrips) {
+        long start = System.nanoTime();
+        int warmed = 0;
+        List<Class<?>> failed = new ArrayList<>(0);
+        for (Class<?> type : types) {
+            try {
+                warmUp(cache, type, roundTrips);
+                warmed++;
+            } catch (Exception | LinkageError e) {
+                failed.add(type);
+            }
+        }
+        return new Result(warmed, List.copyOf(failed), System.nanoTime() - start);
+    }
+
+    private static void warmUp(JacksonCache cache, Class<?> type, int roundTrips) throws Exception {
+        JavaType javaType = cache.type(type);
+        // 缓存的ObjectReader/ObjectWriter在创建时预取根类型的反序列化器与序列化器
+        ObjectReader reader = cache.reader(javaType);
+        ObjectWriter writer = cache.writer(javaType);
+        ObjectMapper mapper = cache.getObjectMapper();
+        prefetchSerializers(mapper, mapper.getSerializerProviderInstance(), javaType, new HashSet<>(), 0);
+        if (roundTrips <= 0) {
+            return;
+        }
+        Object instance = newInstance(type);
+        if (instance == null) {
+            return;
+        }
+        // 字符串与字节两条路径使用不同的生成器和解析器实现，均需加载与预热
+        for (int i = 0; i < roundTrips; i++) {
+            reader.readValue(writer.writeValueAsString(instance));
+            reader.readValue(writer.writeValueAsBytes(instance));
+        }
+    }
+
+    /**
+     * 递归构建属性声明类型的序列化器。非final的属性类型在序列化时按运行时类型动态查找序列化器，
+     * 根序列化器不会提前构建它们；预先构建后结果进入ObjectMapper共享的序列化器缓存
+     */
+    private static void prefetchSerializers(ObjectMapper mapper, SerializerProvider provider, JavaType type,
+                                            Set<JavaType> seen, int depth) throws Exception {
+        if (depth > MAXIMUM_DEPTH || type.isPrimitive() || !seen.add(type)) {
+            return;
+        }
+        if (type.isContainerType()) {
+            if (type.getKeyType() != null) {
+                prefetchSerializers(mapper, provider, type.getKeyType(), seen, depth + 1);
+            }
+            prefetchSerializers(mapper, provider, type.getContentType(), seen, depth + 1);
+            return;
+        }
+        if (type.isJavaLangObject() || type.isInterface() || type.isAbstract()) {
+            return;
+        }
+        provider.findValueSerializer(type);
+        if (type.getRawClass().getName().startsWith("java.")) {
+            return;
+        }
+        for (BeanPropertyDefinition property : mapper.getSerializationConfig().introspect(type).findProperties()) {
+            prefetchSerializers(mapper, provider, property.getPrimaryType(), seen, depth + 1);
+        }
+    }
+
+    /**
+     * 通过无参构造器创建实例
+     *
+     * @return 实例，类型为抽象类型或没有无参构造器时返回null
+     */
+    private static Object newInstance(Class<?> type) throws ReflectiveOperationException {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isEnum()
+                || (type.isMemberClass() && !Modifier.isStatic(type.getModifiers()))) {
+            return null;
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        constructor.setAccessible(true);
+        return constructor.newInstance();
+    }
+
+    /**
+     * 预热结果
+     *
+     * @param warmed       预热成功的类型数
+     * @param failed       预热失败的类型
+     * @param elapsedNanos 耗时（纳秒）
+     */
+    public record Result(int warmed, List<Class<?>> failed, long elapsedNanos) {
+
+        /**
+         * 耗时（毫秒）
+         *
+         * @return 毫秒数
+         */
+        public long elapsedMillis() {
+            return elapsedNanos / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * JsonArrayIterator
+ * 逐个元素读取JSON数组的迭代器，任意时刻只在内存中保留当前元素。
+ * 顶层值为null时视为空数组；读取到数组末尾或发生错误时自动关闭底层解析器，
+ * 提前结束迭代时应调用{@link #close()}释放资源。
+ *
+ * @param <T> 元素类型
+ * @author agent
+ * @since 2026/10/17 00:57
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+
+    /**
+     * 是否已定位到下一个元素的起始token
+     */
+    private boolean positioned;
+
+    private boolean closed;
+
+    /**
+     * 创建迭代器，读取并校验数组的起始token
+     *
+     * @param parser 尚未读取任何token的解析器，迭代器负责关闭
+     * @param reader 元素类型的ObjectReader
+     */
+    JsonArrayIterator(JsonParser parser, ObjectReader reader) {
+        this.parser = parser;
+        this.reader = reader;
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.VALUE_NULL) {
+                close();
+            } else if (token != JsonToken.START_ARRAY) {
+                throw MismatchedInputException.from(parser, reader.getValueType(),
+                        "Expected JSON Array but found " + token);
+            }
+        } catch (IOException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (positioned) {
+            return true;
+        }
+        try {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            positioned = true;
+            return true;
+        } catch (IOException e) {
+            throw fail(e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        positioned = false;
+        long start = JacksonMetrics.start();
+        JsonLocation from = start != JacksonMetrics.DISABLED ? parser.currentTokenLocation() : null;
+        try {
+            T value = reader.readValue(parser);
+            if (from != null) {
+                JacksonMetrics.recordRead(start, reader.getValueType(),
+                        JacksonMetrics.bytesBetween(from, parser.currentLocation()));
+            }
+            return value;
+        } catch (IOException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * 转换为顺序的惰性Stream，关闭Stream时关闭本迭代器
+     *
+     * @return 元素Stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * 关闭底层解析器，重复调用无副作用
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    /**
+     * 关闭迭代器并包装异常
+     *
+     * @param cause 异常原因
+     * @return 服务异常实例
+     */
+    private RuntimeException fail(IOException cause) {
+        try {
+            close();
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+        return JacksonUtils.newInstance(cause);
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JsonChunkDecoder
+ * 基于Jackson非阻塞解析器的增量解码器，适用于Netty、WebFlux等按数据块到达的请求体：
+ * 调用方依次喂入数据块，每个值（或数组模式下的每个元素）一旦完整即绑定为对象返回，无需先缓冲整个请求体。
+ * 未完成的值以token形式暂存，内存占用取决于单个值的大小而非输入总长度。
+ * <p>
+ * 实例不是线程安全的，同一时刻只能由一个线程喂入数据；解析出错后解码器被关闭，不能继续使用。
+ *
+ * @param <T> 值类型
+ * @author agent
+ * @since 2026/10/17 01:32
+ */
+public final class JsonChunkDecoder<T> implements Closeable {
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final ObjectReader reader;
+
+    /**
+     * 是否按数组模式逐个解码顶层数组的元素
+     */
+    private final boolean unwrapArray;
+
+    /**
+     * 当前值的token缓冲，没有未完成的值时为null
+     */
+    private TokenBuffer buffer;
+
+    /**
+     * 当前值内部的嵌套深度
+     */
+    private int depth;
+
+    /**
+     * 数组模式下的状态：0 未开始，1 位于数组内，2 数组已结束
+     */
+    private int arrayState;
+
+    private boolean closed;
+
+    /**
+     * 创建解码器
+     *
+     * @param parser      尚未喂入数据的非阻塞解析器，解码器负责关闭
+     * @param reader      值类型的ObjectReader
+     * @param unwrapArray 是否逐个解码顶层数组的元素
+     */
+    JsonChunkDecoder(JsonParser parser, ObjectReader reader, boolean unwrapArray) {
+        this.parser = parser;
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        this.reader = reader;
+        this.unwrapArray = unwrapArray;
+    }
+
+    /**
+     * 喂入一个数据块并回调其中完成的值。数据块被完整消费，返回时position等于limit，调用方随后可复用该缓冲区
+     *
+     * @param chunk    数据块，UTF-8编码，堆内或直接缓冲区均可
+     * @param consumer 值回调，在调用线程上执行
+     * @return 本次完成的值的数量
+     */
+    public int feed(ByteBuffer chunk, Consumer<? super T> consumer) {
+        ensureOpen();
+        try {
+            feeder.feedInput(chunk);
+            int count = drain(consumer);
+            chunk.position(chunk.limit());
+            return count;
+        } catch (IOException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * 喂入一个数据块并返回其中完成的值
+     *
+     * @param chunk 数据块，UTF-8编码
+     * @return 本次完成的值，可能为空
+     */
+    public List<T> feed(ByteBuffer chunk) {
+        List<T> values = new ArrayList<>();
+        feed(chunk, values::add);
+        return values;
+    }
+
+    /**
+     * 喂入一个数据块并回调其中完成的值，返回后调用方可复用该数组
+     *
+     * @param chunk    数据块，UTF-8编码
+     * @param offset   起始位置
+     * @param length   长度
+     * @param consumer 值回调
+     * @return 本次完成的值的数量
+     */
+    public int feed(byte[] chunk, int offset, int length, Consumer<? super T> consumer) {
+        return feed(ByteBuffer.wrap(chunk, offset, length), consumer);
+    }
+
+    /**
+     * 喂入一个数据块并返回其中完成的值
+     *
+     * @param chunk 数据块，UTF-8编码
+     * @return 本次完成的值，可能为空
+     */
+    public List<T> feed(byte[] chunk) {
+        List<T> values = new ArrayList<>();
+        feed(ByteBuffer.wrap(chunk), values::add);
+        return values;
+    }
+
+    /**
+     * 标记输入结束，回调剩余完成的值（如末尾的顶层数字）并关闭解码器。
+     * 输入在值的中间结束时抛出服务异常
+     *
+     * @param consumer 值回调
+     * @return 完成的值的数量
+     */
+    public int finish(Consumer<? super T> consumer) {
+        ensureOpen();
+        try {
+            feeder.endOfInput();
+            int count = drain(consumer);
+            if (unwrapArray && arrayState == 1) {
+                throw MismatchedInputException.from(parser, reader.getValueType(),
+                        "Unexpected end-of-input: expected close marker for Array");
+            }
+            close();
+            return count;
+        } catch (IOException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * 标记输入结束，返回剩余完成的值并关闭解码器
+     *
+     * @return 完成的值，可能为空
+     */
+    public List<T> finish() {
+        List<T> values = new ArrayList<>();
+        finish(values::add);
+        return values;
+    }
+
+    /**
+     * 读取当前已喂入数据中的全部token
+     */
+    private int drain(Consumer<? super T> consumer) throws IOException {
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (unwrapArray && buffer == null && !enterElement(token)) {
+                continue;
+            }
+            if (buffer == null) {
+                buffer = new TokenBuffer(parser);
+            }
+            buffer.copyCurrentEventExact(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                TokenBuffer complete = buffer;
+                buffer = null;
+                consumer.accept(bind(complete));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 数组模式下处理位于元素之外的token
+     *
+     * @return token是否为一个元素的开始
+     */
+    private boolean enterElement(JsonToken token) throws IOException {
+        if (arrayState == 1) {
+            if (token == JsonToken.END_ARRAY) {
+                arrayState = 2;
+                return false;
+            }
+            return true;
+        }
+        if (arrayState == 0 && token == JsonToken.START_ARRAY) {
+            arrayState = 1;
+            return false;
+        }
+        if (arrayState == 0 && token == JsonToken.VALUE_NULL) {
+            // 与JsonArrayIterator一致，顶层null视为空数组
+            arrayState = 2;
+            return false;
+        }
+        throw MismatchedInputException.from(parser, reader.getValueType(),
+                (arrayState == 0 ? "Expected JSON Array but found " : "Unexpected content after JSON Array: ") + token);
+    }
+
+    /**
+     * 绑定一个完整的值。值的token分散在多次喂入中到达，埋点的耗时只计绑定，负载大小记为未知
+     */
+    private T bind(TokenBuffer value) throws IOException {
+        long start = JacksonMetrics.start();
+        T result;
+        try (JsonParser valueParser = value.asParser()) {
+            result = reader.readValue(valueParser);
+        }
+        JacksonMetrics.recordRead(start, reader.getValueType(), -1);
+        return result;
+    }
+
+    /**
+     * 关闭解析器并丢弃未完成的值，重复调用无副作用
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer = null;
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("JsonChunkDecoder is closed");
+        }
+    }
+
+    /**
+     * 关闭解码器并包装异常
+     *
+     * @param cause 异常原因
+     * @return 服务异常实例
+     */
+    private RuntimeException fail(IOException cause) {
+        try {
+            close();
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+        return JacksonUtils.newInstance(cause);
+    }
+}
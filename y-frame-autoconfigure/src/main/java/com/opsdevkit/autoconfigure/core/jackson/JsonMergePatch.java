@@ -0,0 +1,398 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.deser.std.ContainerDeserializerBase;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionLikeType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JsonMergePatch
+ * 原地更新与JSON Merge Patch（RFC 7386）的实现。
+ * 补丁直接从解析器绑定到已有对象，对象属性按补丁递归合并，数组与集合整体替换，不经过中间字符串或Map；
+ * 差异计算在两个对象的token流上逐层比较，只输出变化的属性
+ *
+ * @author agent
+ * @since 2026/10/17 01:45
+ */
+final class JsonMergePatch {
+
+    /**
+     * 集合与数组不合并而是整体替换、Map按RFC 7386合并的模块
+     */
+    private static final SimpleModule REPLACE_CONTAINERS = new SimpleModule("JsonMergePatch")
+            .setDeserializerModifier(new ReplaceContainersModifier());
+
+    /**
+     * 合并用ObjectMapper与其来源
+     */
+    private static volatile Binding binding;
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * 将补丁应用到目标对象：补丁为JSON对象时按RFC 7386合并，null删除（对象属性置为null），
+     * 嵌套对象递归合并，数组整体替换；补丁不是JSON对象时按补丁创建新值。
+     * Map目标与对象中Map类型的属性同样按键合并，null删除对应的键
+     *
+     * @param current 当前缓存
+     * @param target  目标对象
+     * @param patch   补丁，可以是字符串、字节数据或其他对象
+     * @param <T>     目标类型
+     * @return 合并后的对象，补丁为JSON对象时即目标对象本身
+     * @throws IOException 解析或绑定失败时抛出
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T apply(JacksonCache current, T target, Object patch) throws IOException {
+        try (JsonParser parser = JacksonUtils.createParser(current, patch)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                return current.reader(current.type(target.getClass())).readValue(parser);
+            }
+            if (target instanceof Map<?, ?> map) {
+                mergeMap(current.reader(current.type(Object.class)), (Map<Object, Object>) map, parser);
+                return target;
+            }
+            JacksonCache merge = mergeCache(current);
+            return merge.reader(merge.type(target.getClass())).withValueToUpdate(target).readValue(parser);
+        }
+    }
+
+    /**
+     * 以JSON对象合并Map，解析器位于START_OBJECT，返回时位于对应的END_OBJECT
+     */
+    private static void mergeMap(ObjectReader valueReader, Map<Object, Object> target, JsonParser parser)
+            throws IOException {
+        for (String name = parser.nextFieldName(); name != null; name = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                target.remove(name);
+            } else if (token == JsonToken.START_OBJECT) {
+                target.put(name, mergeNested(target.get(name), nested -> mergeMap(valueReader, nested, parser)));
+            } else {
+                target.put(name, valueReader.readValue(parser));
+            }
+        }
+    }
+
+    /**
+     * 在已有的值上合并嵌套的JSON对象，已有的值不是Map时以新的LinkedHashMap代替
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> mergeNested(Object existing, MapMerger merger) throws IOException {
+        Map<Object, Object> nested = existing instanceof Map<?, ?> map
+                ? (Map<Object, Object>) map : new LinkedHashMap<>();
+        merger.merge(nested);
+        return nested;
+    }
+
+    @FunctionalInterface
+    private interface MapMerger {
+        void merge(Map<Object, Object> target) throws IOException;
+    }
+
+    /**
+     * 获取当前ObjectMapper对应的合并用缓存，ObjectMapper被替换后重建
+     */
+    private static JacksonCache mergeCache(JacksonCache current) {
+        ObjectMapper source = current.getObjectMapper();
+        Binding bound = binding;
+        if (bound == null || bound.source != source) {
+            ObjectMapper mapper = source.copy();
+            mapper.setDefaultMergeable(true);
+            mapper.registerModule(REPLACE_CONTAINERS);
+            bound = new Binding(source, new JacksonCache(mapper, current.getMaximumSize()));
+            binding = bound;
+        }
+        return bound.cache;
+    }
+
+    /**
+     * 计算从before到after的合并补丁并写入生成器。两者都序列化为JSON对象时输出只含变化属性的对象，
+     * 无变化时为空对象；否则补丁即after本身
+     *
+     * @param current   当前缓存
+     * @param before    原对象
+     * @param after     新对象
+     * @param generator 输出补丁的生成器
+     * @throws IOException 序列化失败时抛出
+     */
+    static void diff(JacksonCache current, Object before, Object after, JsonGenerator generator) throws IOException {
+        try (JsonParser source = JacksonUtils.bufferedParser(current, before);
+             JsonParser target = JacksonUtils.bufferedParser(current, after)) {
+            JsonToken sourceToken = source.nextToken();
+            JsonToken targetToken = target.nextToken();
+            if (sourceToken == JsonToken.START_OBJECT && targetToken == JsonToken.START_OBJECT) {
+                diffObject(source, target, generator);
+            } else {
+                generator.copyCurrentStructure(target);
+            }
+        }
+    }
+
+    /**
+     * 比较两个位于START_OBJECT的解析器并写出补丁对象，返回时两者均位于对应的END_OBJECT
+     *
+     * @return 是否存在变化的属性
+     */
+    private static boolean diffObject(JsonParser source, JsonParser target, JsonGenerator out) throws IOException {
+        Map<String, TokenBuffer> previous = new LinkedHashMap<>();
+        for (String name = source.nextFieldName(); name != null; name = source.nextFieldName()) {
+            source.nextToken();
+            previous.put(name, capture(source));
+        }
+        boolean changed = false;
+        out.writeStartObject();
+        for (String name = target.nextFieldName(); name != null; name = target.nextFieldName()) {
+            JsonToken token = target.nextToken();
+            TokenBuffer old = previous.remove(name);
+            if (old == null) {
+                out.writeFieldName(name);
+                out.copyCurrentStructure(target);
+                changed = true;
+                continue;
+            }
+            if (token == JsonToken.START_OBJECT && old.firstToken() == JsonToken.START_OBJECT) {
+                TokenBuffer nested = new TokenBuffer(target);
+                try (JsonParser oldParser = old.asParser()) {
+                    oldParser.nextToken();
+                    if (diffObject(oldParser, target, nested)) {
+                        out.writeFieldName(name);
+                        nested.serialize(out);
+                        changed = true;
+                    }
+                }
+                continue;
+            }
+            TokenBuffer value = capture(target);
+            if (!sameTokens(old, value)) {
+                out.writeFieldName(name);
+                value.serialize(out);
+                changed = true;
+            }
+        }
+        for (String removed : previous.keySet()) {
+            out.writeFieldName(removed);
+            out.writeNull();
+            changed = true;
+        }
+        out.writeEndObject();
+        return changed;
+    }
+
+    private static TokenBuffer capture(JsonParser parser) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        return buffer;
+    }
+
+    /**
+     * 逐个比较两段token，数值按文本比较
+     */
+    private static boolean sameTokens(TokenBuffer left, TokenBuffer right) throws IOException {
+        try (JsonParser a = left.asParser(); JsonParser b = right.asParser()) {
+            while (true) {
+                JsonToken token = a.nextToken();
+                if (token != b.nextToken()) {
+                    return false;
+                }
+                if (token == null) {
+                    return true;
+                }
+                if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                    if (!Objects.deepEquals(a.getEmbeddedObject(), b.getEmbeddedObject())) {
+                        return false;
+                    }
+                } else if (token.isScalarValue() || token == JsonToken.FIELD_NAME) {
+                    if (!Objects.equals(a.getText(), b.getText())) {
+                        return false;
+                    }
+                }
+            }
+        }
+    }
+
+    private record Binding(ObjectMapper source, JacksonCache cache) {
+    }
+
+    /**
+     * 使集合与数组的反序列化器不支持合并，从而在默认可合并时仍被整体替换；Map的反序列化器按键合并
+     */
+    private static final class ReplaceContainersModifier extends BeanDeserializerModifier {
+
+        @Override
+        public JsonDeserializer<?> modifyMapDeserializer(DeserializationConfig config, MapType type,
+                                                         BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new MergingMapDeserializer(deserializer);
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyArrayDeserializer(DeserializationConfig config, ArrayType valueType,
+                                                           BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReplacingDeserializer(deserializer);
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type,
+                                                                BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReplacingDeserializer(deserializer);
+        }
+
+        @Override
+        public JsonDeserializer<?> modifyCollectionLikeDeserializer(DeserializationConfig config, CollectionLikeType type,
+                                                                    BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+            return new ReplacingDeserializer(deserializer);
+        }
+    }
+
+    private static final class ReplacingDeserializer extends DelegatingDeserializer {
+
+        ReplacingDeserializer(JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new ReplacingDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Boolean supportsUpdate(DeserializationConfig config) {
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * 按RFC 7386合并已有Map的反序列化器：null删除键，嵌套的JSON对象与已有的值合并，其余值替换。
+     * 没有已有Map时创建新Map，Map本身是对象层合并的目标时丢弃其中（含嵌套Map中）的null值；
+     * 位于数组或集合内的Map随所在的数组整体替换，保留null值
+     */
+    private static final class MergingMapDeserializer extends DelegatingDeserializer {
+
+        MergingMapDeserializer(JsonDeserializer<?> delegatee) {
+            super(delegatee);
+        }
+
+        @Override
+        protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+            return new MergingMapDeserializer(newDelegatee);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            boolean mergeTarget = !insideArray(p.getParsingContext());
+            Object value = super.deserialize(p, ctxt);
+            if (mergeTarget) {
+                removeNulls(value);
+            }
+            return value;
+        }
+
+        /**
+         * 解析位置是否位于某个JSON数组之内
+         */
+        private static boolean insideArray(JsonStreamContext context) {
+            for (JsonStreamContext current = context; current != null; current = current.getParent()) {
+                if (current.inArray()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 删除Map及其嵌套Map中的null值，不进入集合与数组
+         */
+        private static void removeNulls(Object value) {
+            if (!(value instanceof Map<?, ?> map)) {
+                return;
+            }
+            // 只在确有null值时删除，不可变Map上的removeIf会直接抛出异常
+            if (map.values().stream().anyMatch(Objects::isNull)) {
+                map.values().removeIf(Objects::isNull);
+            }
+            map.values().forEach(MergingMapDeserializer::removeNulls);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object deserialize(JsonParser p, DeserializationContext ctxt, Object intoValue) throws IOException {
+            if (!(intoValue instanceof Map<?, ?> map) || !(_delegatee instanceof ContainerDeserializerBase<?> container)) {
+                return super.deserialize(p, ctxt, intoValue);
+            }
+            JsonToken token = p.currentToken();
+            if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                // 补丁不是JSON对象时替换整个值
+                return deserialize(p, ctxt);
+            }
+            KeyDeserializer keyDeserializer = ctxt.findKeyDeserializer(container.getValueType().getKeyType(), null);
+            merge(p, ctxt, (Map<Object, Object>) map, keyDeserializer, container.getContentDeserializer(),
+                    container.getContentType().isJavaLangObject());
+            return map;
+        }
+
+        /**
+         * 将解析器位于START_OBJECT或FIELD_NAME的JSON对象合并到Map，返回时位于END_OBJECT
+         *
+         * @param keys    键的反序列化器，为空时键为字符串
+         * @param untyped 值是否为无类型对象，是时嵌套的JSON对象以字符串为键递归合并
+         */
+        private static void merge(JsonParser p, DeserializationContext ctxt, Map<Object, Object> target,
+                                  KeyDeserializer keys, JsonDeserializer<Object> values, boolean untyped)
+                throws IOException {
+            JsonToken token = p.currentToken() == JsonToken.START_OBJECT ? p.nextToken() : p.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+                Object key = keys == null ? p.currentName() : keys.deserializeKey(p.currentName(), ctxt);
+                JsonToken valueToken = p.nextToken();
+                Object existing = target.get(key);
+                if (valueToken == JsonToken.VALUE_NULL) {
+                    target.remove(key);
+                } else if (valueToken == JsonToken.START_OBJECT && untyped) {
+                    target.put(key, mergeNested(existing, nested -> merge(p, ctxt, nested, null, values, true)));
+                } else if (valueToken == JsonToken.START_OBJECT && existing != null
+                        && Boolean.TRUE.equals(values.supportsUpdate(ctxt.getConfig()))) {
+                    target.put(key, values.deserialize(p, ctxt, existing));
+                } else {
+                    target.put(key, values.deserialize(p, ctxt));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsonPointerExtractor
+ * 按JSON Pointer从token流中提取值，不进行完整的数据绑定。
+ * 多个指针合并为一棵前缀树，解析器只进入前缀树中存在的路径，其余子树直接跳过；全部指针命中后立即停止读取。
+ * 命中的值以{@link TokenBuffer}保存，之后再按目标类型绑定
+ *
+ * @author agent
+ * @since 2026/10/17 01:19
+ */
+final class JsonPointerExtractor {
+
+    private final Node root = new Node(-1);
+
+    private final int size;
+
+    /**
+     * 各指针命中的值，未命中时为null
+     */
+    private TokenBuffer[] values;
+
+    private int remaining;
+
+    /**
+     * 创建提取器
+     *
+     * @param pointers 不重复的JSON Pointer列表
+     */
+    JsonPointerExtractor(List<JsonPointer> pointers) {
+        for (int i = 0; i < pointers.size(); i++) {
+            Node node = root;
+            for (JsonPointer segment = pointers.get(i); !segment.matches(); segment = segment.tail()) {
+                node = node.child(segment.getMatchingProperty(), segment.getMatchingIndex());
+            }
+            node.targets.add(i);
+        }
+        this.size = pointers.size();
+    }
+
+    /**
+     * 从解析器中提取全部指针的值，解析器由调用方关闭
+     *
+     * @param parser 尚未读取任何token的解析器
+     * @return 与指针列表一一对应的值，未命中的位置为null
+     * @throws IOException 读取失败时抛出
+     */
+    TokenBuffer[] extract(JsonParser parser) throws IOException {
+        values = new TokenBuffer[size];
+        remaining = size;
+        if (parser.nextToken() != null) {
+            walk(parser, root);
+        }
+        return values;
+    }
+
+    /**
+     * 处理解析器当前位置的值，返回时解析器位于该值的最后一个token；全部指针命中后不再读取，直接返回
+     */
+    private void walk(JsonParser parser, Node node) throws IOException {
+        if (!node.targets.isEmpty()) {
+            TokenBuffer buffer = new TokenBuffer(parser);
+            buffer.copyCurrentStructure(parser);
+            for (int target : node.targets) {
+                values[target] = buffer;
+            }
+            remaining -= node.targets.size();
+            if (node.hasChildren()) {
+                // 同时请求了该值内部的路径，在副本上继续匹配
+                try (JsonParser copy = buffer.asParser(parser.getCodec())) {
+                    copy.nextToken();
+                    walkChildren(copy, node);
+                }
+            }
+            return;
+        }
+        walkChildren(parser, node);
+    }
+
+    private void walkChildren(JsonParser parser, Node node) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && node.byName != null) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Node child = node.byName.get(parser.currentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                walk(parser, child);
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY && node.byIndex != null) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Node child = node.byIndex(index++);
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                walk(parser, child);
+                if (remaining == 0) {
+                    return;
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * 前缀树节点。同一段既可以按属性名匹配对象，也可以按下标匹配数组
+     */
+    private static final class Node {
+        final int index;
+        final List<Integer> targets = new ArrayList<>(1);
+        Map<String, Node> byName;
+        List<Node> byIndex;
+
+        Node(int index) {
+            this.index = index;
+        }
+
+        Node child(String property, int index) {
+            if (byName == null) {
+                byName = new HashMap<>();
+            }
+            Node child = byName.get(property);
+            if (child == null) {
+                child = new Node(index);
+                byName.put(property, child);
+                if (index >= 0) {
+                    if (byIndex == null) {
+                        byIndex = new ArrayList<>();
+                    }
+                    byIndex.add(child);
+                }
+            }
+            return child;
+        }
+
+        Node byIndex(int index) {
+            for (Node child : byIndex) {
+                if (child.index == index) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        boolean hasChildren() {
+            return byName != null;
+        }
+    }
+}
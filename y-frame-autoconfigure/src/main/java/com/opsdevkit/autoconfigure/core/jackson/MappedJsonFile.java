@@ -0,0 +1,270 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * MappedJsonFile
+ * 以内存映射方式读取的JSON文件。文件按不超过{@link #SEGMENT_SIZE}的分段映射，因此支持超过2GB的文件；
+ * 解析器直接从映射区域读取，文件内容不会整体复制到堆内存。
+ * <p>
+ * JDK没有公开的解除映射API，映射区域在本对象不可达后由GC回收，在此之前文件在部分平台（如Windows）上无法删除。
+ *
+ * @author agent
+ * @since 2026/10/17 01:35
+ */
+final class MappedJsonFile {
+
+    /**
+     * 单个映射分段的最大字节数
+     */
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * 并行读取时单个数据块的最小字节数，小于该值的文件按顺序读取
+     */
+    static final int MINIMUM_CHUNK_SIZE = 1 << 20;
+
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_END = {']'};
+
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    private MappedJsonFile(MappedByteBuffer[] segments, long size) {
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * 映射文件，映射建立后文件通道即被关闭
+     *
+     * @param path 文件路径
+     * @return 映射后的文件
+     * @throws IOException 打开或映射文件失败时抛出
+     */
+    static MappedJsonFile map(Path path) throws IOException {
+        return map(path, SEGMENT_SIZE);
+    }
+
+    static MappedJsonFile map(Path path, int segmentSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int count = (int) Math.max(1, (size + segmentSize - 1) / segmentSize);
+            MappedByteBuffer[] segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long position = (long) i * segmentSize;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentSize, size - position));
+            }
+            return new MappedJsonFile(segments, size);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * 整个文件的输入流
+     *
+     * @return 输入流，关闭无副作用
+     */
+    InputStream newInputStream() {
+        return newInputStream(0, size);
+    }
+
+    /**
+     * 文件指定区间的输入流，区间可以跨越多个映射分段
+     *
+     * @param from 起始位置（含）
+     * @param to   结束位置（不含）
+     * @return 输入流
+     */
+    InputStream newInputStream(long from, long to) {
+        List<InputStream> streams = new ArrayList<>(2);
+        long segmentStart = 0;
+        for (MappedByteBuffer segment : segments) {
+            long segmentEnd = segmentStart + segment.capacity();
+            if (segmentEnd > from && segmentStart < to) {
+                int start = (int) (Math.max(from, segmentStart) - segmentStart);
+                int end = (int) (Math.min(to, segmentEnd) - segmentStart);
+                streams.add(new ByteBufferBackedInputStream(segment.slice(start, end - start)));
+            }
+            segmentStart = segmentEnd;
+        }
+        return streams.size() == 1 ? streams.get(0) : new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    /**
+     * 并行读取顶层数组：先扫描一遍文件，在顶层元素之间的逗号处把数组切分为大小相近的数据块，
+     * 再在执行器上并行解析各数据块，结果按原顺序合并。顶层不是数组或结构不完整时回退为顺序读取，由解析器报告错误
+     *
+     * @param reader      元素列表类型的ObjectReader
+     * @param executor    解析数据块的执行器
+     * @param parallelism 并行度
+     * @param <T>         元素类型
+     * @return 元素列表
+     * @throws IOException 读取或解析失败时抛出，并行解析的错误消息中给出文件中的绝对位置
+     */
+    <T> List<T> readList(ObjectReader reader, Executor executor, int parallelism) throws IOException {
+        int chunks = (int) Math.min((long) parallelism * 4, size / MINIMUM_CHUNK_SIZE);
+        long[] bounds = chunks > 1 ? splitArray(size / chunks) : null;
+        if (bounds == null || bounds.length == 2) {
+            return reader.readValue(newInputStream());
+        }
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(bounds.length / 2);
+        for (int i = 0; i < bounds.length; i += 2) {
+            InputStream in = new SequenceInputStream(Collections.enumeration(List.of(new ByteArrayInputStream(ARRAY_START),
+                    newInputStream(bounds[i], bounds[i + 1]), new ByteArrayInputStream(ARRAY_END))));
+            long from = bounds[i];
+            futures.add(CompletableFuture.supplyAsync(() -> readChunk(reader, in, from), executor));
+        }
+        List<List<T>> parts = new ArrayList<>(futures.size());
+        int total = 0;
+        try {
+            for (CompletableFuture<List<T>> future : futures) {
+                List<T> part = future.join();
+                parts.add(part);
+                total += part.size();
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        List<T> values = new ArrayList<>(total);
+        parts.forEach(values::addAll);
+        return values;
+    }
+
+    /**
+     * 解析一个数据块，出错时在消息中给出文件中的绝对位置：解析器报告的位置相对于补上方括号后的数据块
+     *
+     * @param from 数据块在文件中的起始位置
+     */
+    private static <T> List<T> readChunk(ObjectReader reader, InputStream in, long from) {
+        try {
+            return reader.readValue(in);
+        } catch (JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            long offset = location != null && location.getByteOffset() >= 0
+                    ? from + location.getByteOffset() - ARRAY_START.length : from;
+            throw new CompletionException(new IOException("Failed to parse JSON array chunk at file byte offset "
+                    + offset + ": " + e.getOriginalMessage(), e));
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * 扫描顶层数组的结构，在顶层元素之间的逗号处切分
+     *
+     * @param target 每个数据块的目标字节数
+     * @return 各数据块的起止位置（不含两侧的方括号与分隔逗号），顶层不是单个完整数组时返回null
+     */
+    long[] splitArray(long target) {
+        List<Long> bounds = new ArrayList<>();
+        int depth = 0;
+        boolean started = false;
+        boolean inString = false;
+        boolean escaped = false;
+        long chunkStart = 0;
+        long position = 0;
+        for (MappedByteBuffer segment : segments) {
+            int limit = segment.capacity();
+            for (int i = 0; i < limit; i++, position++) {
+                byte b = segment.get(i);
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                switch (b) {
+                    case '"' -> inString = true;
+                    case '[', '{' -> {
+                        if (depth == 0) {
+                            if (started || b != '[') {
+                                return null;
+                            }
+                            started = true;
+                            chunkStart = position + 1;
+                        }
+                        depth++;
+                    }
+                    case ']', '}' -> {
+                        if (--depth < 0) {
+                            return null;
+                        }
+                        if (depth == 0) {
+                            bounds.add(chunkStart);
+                            bounds.add(position);
+                        }
+                    }
+                    case ',' -> {
+                        if (depth == 1 && position - chunkStart >= target) {
+                            bounds.add(chunkStart);
+                            bounds.add(position);
+                            chunkStart = position + 1;
+                        }
+                    }
+                    case ' ', '\t', '\r', '\n' -> {
+                    }
+                    default -> {
+                        if (depth == 0) {
+                            return null;
+                        }
+                    }
+                }
+            }
+        }
+        if (!started || depth != 0 || inString) {
+            return null;
+        }
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,393 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * NdjsonReader
+ * 并行读取NDJSON（JSON Lines）数据：调用线程按换行边界把输入切分为数据块，数据块在执行器上并行解析，
+ * 解析结果在调用线程上交给回调，因此回调无需线程安全。同时在途的数据块数量有上限，内存占用与输入总长度无关。
+ * 单行解析失败交给{@link ErrorHandler}处理，不影响其余记录；空白行被忽略。
+ *
+ * @param <T> 记录类型
+ * @author agent
+ * @since 2026/10/17 00:59
+ */
+public final class NdjsonReader<T> {
+
+    /**
+     * 默认数据块大小（字节）
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final JavaType type;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int parallelism;
+    private final boolean ordered;
+    private final ErrorHandler errorHandler;
+
+    private NdjsonReader(Builder<T> builder) {
+        this.type = builder.type;
+        this.executor = builder.executor != null ? builder.executor : JacksonExecutors.defaultExecutor();
+        this.chunkSize = builder.chunkSize;
+        this.parallelism = builder.parallelism;
+        this.ordered = builder.ordered;
+        this.errorHandler = builder.errorHandler;
+    }
+
+    /**
+     * 创建指定记录类型的构建器
+     *
+     * @param clazz 记录的类类型
+     * @param <T>   记录类型
+     * @return 构建器
+     */
+    public static <T> Builder<T> builder(Class<T> clazz) {
+        return new Builder<>(JacksonUtils.getCache().type(clazz));
+    }
+
+    /**
+     * 创建指定记录类型的构建器
+     *
+     * @param javaType 记录的JavaType
+     * @param <T>      记录类型
+     * @return 构建器
+     */
+    public static <T> Builder<T> builder(JavaType javaType) {
+        return new Builder<>(javaType);
+    }
+
+    /**
+     * 读取输入流中的全部记录并依次回调，读取结束后不关闭输入流
+     *
+     * @param in       NDJSON输入流，UTF-8编码
+     * @param consumer 记录回调，在调用线程上执行
+     * @return 读取汇总
+     */
+    public Summary read(InputStream in, Consumer<? super T> consumer) {
+        ObjectReader reader = JacksonUtils.getCache().reader(type);
+        Deque<CompletableFuture<Chunk<T>>> pending = new ArrayDeque<>();
+        Summary summary = new Summary();
+        int window = Math.max(1, parallelism * 2);
+        byte[] buffer = new byte[chunkSize];
+        int filled = 0;
+        long line = 1;
+        try {
+            while (true) {
+                int n = in.read(buffer, filled, buffer.length - filled);
+                if (n < 0) {
+                    if (filled > 0) {
+                        submit(pending, reader, buffer, filled, line);
+                    }
+                    break;
+                }
+                filled += n;
+                if (filled < buffer.length) {
+                    continue;
+                }
+                int end = lastLineEnd(buffer, filled);
+                if (end < 0) {
+                    // 单行超过数据块大小，扩容后继续读取
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                    continue;
+                }
+                byte[] next = new byte[Math.max(chunkSize, filled - end)];
+                System.arraycopy(buffer, end, next, 0, filled - end);
+                submit(pending, reader, buffer, end, line);
+                line += countLines(buffer, end);
+                buffer = next;
+                filled -= end;
+                while (pending.size() >= window) {
+                    deliver(pending, consumer, summary);
+                }
+            }
+            while (!pending.isEmpty()) {
+                deliver(pending, consumer, summary);
+            }
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        } finally {
+            // 读取、解析、回调或错误处理中任何异常退出时，取消尚未交付的数据块
+            pending.forEach(future -> future.cancel(false));
+        }
+        return summary;
+    }
+
+    /**
+     * 读取输入流中的全部记录
+     *
+     * @param in NDJSON输入流，UTF-8编码
+     * @return 记录列表，未启用保序时顺序与输入不一定一致
+     */
+    public List<T> readAll(InputStream in) {
+        List<T> records = new ArrayList<>();
+        read(in, records::add);
+        return records;
+    }
+
+    /**
+     * 提交数据块解析任务
+     */
+    private void submit(Deque<CompletableFuture<Chunk<T>>> pending, ObjectReader reader,
+                        byte[] bytes, int length, long firstLine) {
+        pending.addLast(CompletableFuture.supplyAsync(() -> parse(reader, bytes, length, firstLine), executor));
+    }
+
+    /**
+     * 取出一个已完成的数据块并交付其中的记录与错误。
+     * 保序模式下按提交顺序等待队首；否则优先交付已完成的数据块
+     */
+    private void deliver(Deque<CompletableFuture<Chunk<T>>> pending, Consumer<? super T> consumer, Summary summary) {
+        CompletableFuture<Chunk<T>> future = null;
+        if (!ordered) {
+            for (CompletableFuture<Chunk<T>> candidate : pending) {
+                if (candidate.isDone()) {
+                    future = candidate;
+                    break;
+                }
+            }
+            if (future == null) {
+                CompletableFuture.anyOf(pending.toArray(new CompletableFuture<?>[0])).join();
+                deliver(pending, consumer, summary);
+                return;
+            }
+            pending.remove(future);
+        } else {
+            future = pending.removeFirst();
+        }
+        Chunk<T> chunk;
+        try {
+            chunk = future.join();
+        } catch (CompletionException e) {
+            throw JacksonUtils.newInstance(e.getCause());
+        }
+        for (T record : chunk.records) {
+            consumer.accept(record);
+        }
+        for (Failure failure : chunk.failures) {
+            errorHandler.onError(failure.line, failure.content, failure.exception);
+        }
+        summary.records += chunk.records.size();
+        summary.failures += chunk.failures.size();
+    }
+
+    /**
+     * 解析一个数据块中的全部行
+     */
+    private static <T> Chunk<T> parse(ObjectReader reader, byte[] bytes, int length, long firstLine) {
+        Chunk<T> chunk = new Chunk<>();
+        long line = firstLine;
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && bytes[end] != '\n') {
+                end++;
+            }
+            if (!isBlank(bytes, start, end)) {
+                try {
+                    chunk.records.add(reader.readValue(bytes, start, end - start));
+                } catch (IOException e) {
+                    String content = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+                    chunk.failures.add(new Failure(line, content, JacksonUtils.newInstance(e)));
+                }
+            }
+            line++;
+            start = end + 1;
+        }
+        return chunk;
+    }
+
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 查找最后一个换行符之后的位置
+     *
+     * @return 最后一个完整行的结束位置（不含），没有换行符时返回-1
+     */
+    private static int lastLineEnd(byte[] bytes, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static long countLines(byte[] bytes, int length) {
+        long lines = 0;
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] == '\n') {
+                lines++;
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * 单条记录解析失败的处理器
+     */
+    @FunctionalInterface
+    public interface ErrorHandler {
+        /**
+         * 处理解析失败的记录
+         *
+         * @param line      行号，从1开始
+         * @param content   该行原始内容
+         * @param exception 解析异常，错误码与JacksonUtils一致
+         */
+        void onError(long line, String content, ServiceException exception);
+    }
+
+    /**
+     * 读取汇总
+     */
+    @Getter
+    public static final class Summary {
+        /**
+         * 成功解析的记录数
+         */
+        private long records;
+
+        /**
+         * 解析失败的记录数
+         */
+        private long failures;
+    }
+
+    private static final class Chunk<T> {
+        final List<T> records = new ArrayList<>();
+        final List<Failure> failures = new ArrayList<>(0);
+    }
+
+    private record Failure(long line, String content, ServiceException exception) {
+    }
+
+    /**
+     * NdjsonReader构建器
+     *
+     * @param <T> 记录类型
+     */
+    public static final class Builder<T> {
+        private final JavaType type;
+        private Executor executor;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int parallelism = JacksonExecutors.defaultParallelism();
+        private boolean ordered = true;
+        private ErrorHandler errorHandler = (line, content, exception) -> {
+        };
+
+        private Builder(JavaType type) {
+            this.type = type;
+        }
+
+        /**
+         * 设置解析数据块的执行器，默认在支持时使用虚拟线程，否则使用公共ForkJoinPool
+         *
+         * @param executor 执行器
+         * @return 构建器
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * 设置数据块大小（字节），超过该大小的单行会使数据块自动扩容
+         *
+         * @param chunkSize 数据块大小，必须大于0
+         * @return 构建器
+         */
+        public Builder<T> chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be greater than 0");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * 设置并行度，同时在途的数据块数量为并行度的两倍
+         *
+         * @param parallelism 并行度，必须大于0
+         * @return 构建器
+         */
+        public Builder<T> parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be greater than 0");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * 设置是否按输入顺序交付记录，默认保序
+         *
+         * @param ordered 是否保序
+         * @return 构建器
+         */
+        public Builder<T> ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        /**
+         * 设置单条记录解析失败的处理器，默认忽略失败的记录
+         *
+         * @param errorHandler 错误处理器
+         * @return 构建器
+         */
+        public Builder<T> errorHandler(ErrorHandler errorHandler) {
+            this.errorHandler = errorHandler;
+            return this;
+        }
+
+        /**
+         * 构建NdjsonReader，实例不可变且可在多线程间共享
+         *
+         * @return NdjsonReader
+         */
+        public NdjsonReader<T> build() {
+            return new NdjsonReader<>(this);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * NdjsonWriter
+ * 以NDJSON（JSON Lines）格式把记录批量写入输出流，每条记录一行并以换行结尾。
+ * 记录先写入生成器缓冲区，每满一批刷新一次输出流。ObjectWriter取自{@link JacksonCache}并按记录类型复用，
+ * 连续写入同一类型的记录时不重复查找序列化器。实例非线程安全
+ *
+ * @author agent
+ * @since 2026/10/17 00:59
+ */
+public final class NdjsonWriter implements Closeable, Flushable {
+
+    /**
+     * 默认每批记录数
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final JacksonCache cache;
+    private final JsonGenerator generator;
+    private final int batchSize;
+    private int unflushed;
+
+    /**
+     * 上一条记录的类型与对应的ObjectWriter
+     */
+    private Class<?> writerType;
+    private ObjectWriter writer;
+
+    /**
+     * 使用默认批大小创建写入器
+     *
+     * @param out 目标输出流，随写入器关闭
+     */
+    public NdjsonWriter(OutputStream out) {
+        this(out, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 创建写入器
+     *
+     * @param out       目标输出流，随写入器关闭
+     * @param batchSize 每批记录数，必须大于0
+     */
+    public NdjsonWriter(OutputStream out, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be greater than 0");
+        }
+        this.cache = JacksonUtils.getCache();
+        this.batchSize = batchSize;
+        try {
+            this.generator = cache.getObjectMapper().createGenerator(out);
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+        this.generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * 写入一条记录
+     *
+     * @param record 记录
+     */
+    public void write(Object record) {
+        try {
+            writerFor(record).writeValue(generator, record);
+            generator.writeRaw('\n');
+            if (++unflushed >= batchSize) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    /**
+     * 获取记录类型的ObjectWriter，每行一条记录，禁用缩进与逐条刷新
+     */
+    private ObjectWriter writerFor(Object record) {
+        Class<?> type = record != null ? record.getClass() : null;
+        if (writer == null || type != writerType) {
+            writer = cache.writerForValue(record)
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            writerType = type;
+        }
+        return writer;
+    }
+
+    /**
+     * 依次写入全部记录
+     *
+     * @param records 记录
+     */
+    public void writeAll(Iterable<?> records) {
+        Iterator<?> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            write(iterator.next());
+        }
+    }
+
+    /**
+     * 将缓冲区中的记录刷新到输出流
+     */
+    @Override
+    public void flush() {
+        try {
+            generator.flush();
+            unflushed = 0;
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+
+    /**
+     * 刷新剩余记录并关闭输出流
+     */
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (IOException e) {
+            throw JacksonUtils.newInstance(e);
+        }
+    }
+}
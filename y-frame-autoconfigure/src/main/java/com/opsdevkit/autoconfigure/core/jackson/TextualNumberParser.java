@@ -0,0 +1,107 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * TextualNumberParser
+ * 包装TokenBuffer的解析器，使数值类型与解析JSON文本时一致：
+ * 整数按取值范围收窄为Integer/Long/BigInteger，浮点数报告为Double。
+ * 保证对象直接转换与原先的JSON字符串往返得到相同的无类型结果（如Map中的数值）
+ *
+ * @author agent
+ * @since 2026/10/17 00:53
+ */
+final class TextualNumberParser extends JsonParserDelegate {
+
+    private static final BigInteger INT_MIN = BigInteger.valueOf(Integer.MIN_VALUE);
+    private static final BigInteger INT_MAX = BigInteger.valueOf(Integer.MAX_VALUE);
+
+    /**
+     * 是否保留浮点数的BigDecimal表示（对应USE_BIG_DECIMAL_FOR_FLOATS）
+     */
+    private final boolean bigDecimalForFloats;
+
+    TextualNumberParser(JsonParser delegate, boolean bigDecimalForFloats) {
+        super(delegate);
+        this.bigDecimalForFloats = bigDecimalForFloats;
+    }
+
+    @Override
+    public Number getNumberValue() throws IOException {
+        Number value = delegate.getNumberValue();
+        if (delegate.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return narrow(value);
+        }
+        if (bigDecimalForFloats || value instanceof Double) {
+            return value;
+        }
+        return value.doubleValue();
+    }
+
+    @Override
+    public Number getNumberValueDeferred() throws IOException {
+        return getNumberValue();
+    }
+
+    @Override
+    public NumberType getNumberType() throws IOException {
+        if (delegate.currentToken() == JsonToken.VALUE_NUMBER_FLOAT) {
+            return bigDecimalForFloats ? delegate.getNumberType() : NumberType.DOUBLE;
+        }
+        Number value = getNumberValue();
+        if (value instanceof Integer) {
+            return NumberType.INT;
+        }
+        return value instanceof Long ? NumberType.LONG : NumberType.BIG_INTEGER;
+    }
+
+    @Override
+    public NumberTypeFP getNumberTypeFP() throws IOException {
+        return bigDecimalForFloats ? delegate.getNumberTypeFP() : NumberTypeFP.UNKNOWN;
+    }
+
+    /**
+     * 将整数收窄为能容纳其取值的最小类型
+     *
+     * @param value 原始整数
+     * @return 收窄后的整数
+     */
+    private static Number narrow(Number value) {
+        if (value instanceof Integer) {
+            return value;
+        }
+        if (value instanceof BigInteger big) {
+            if (big.compareTo(INT_MIN) >= 0 && big.compareTo(INT_MAX) <= 0) {
+                return big.intValue();
+            }
+            return big.bitLength() < Long.SIZE ? big.longValue() : big;
+        }
+        if (value instanceof BigDecimal) {
+            return value;
+        }
+        long l = value.longValue();
+        return (int) l == l ? (Number) (int) l : (Number) l;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.exception;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.opsdevkit.autoconfigure.core.exception.CodeErrorMsgException;
+import com.opsdevkit.autoconfigure.core.exception.CodeException;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CodeExceptionHandler
+ * {@link CodeException}体系的全局异常处理，以{@code {"code":..,"msg":..}}格式输出错误响应。
+ * <p>
+ * 响应体通过JsonGenerator直接写出，不经过基于反射的序列化。消息由{@link CodeErrorMsgException.ErrorMsg}映射得到的异常，
+ * 其UTF-8响应体按错误码缓存，之后同一错误码直接写出缓存的字节；缓存命中时校验消息是否一致，
+ * 区域切换或消息重新加载后自动重新编码。HTTP状态码按错误码范围映射，范围嵌套时最窄的范围生效，未命中时使用默认状态码。
+ * 处理器的优先级最低，应用自定义的异常处理优先生效
+ *
+ * @author agent
+ * @since 2026/10/17 01:17
+ */
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CodeExceptionHandler {
+
+    /**
+     * 默认缓存的最大错误码数
+     */
+    public static final int DEFAULT_CACHE_MAXIMUM_SIZE = 1024;
+
+    private final int defaultStatus;
+
+    /**
+     * 按起点排序且互不重叠的错误码区段，依次存放起点、终点与状态码
+     */
+    private final int[] statusRanges;
+
+    private final int cacheMaximumSize;
+
+    private final ConcurrentHashMap<Integer, Body> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * 创建处理器
+     *
+     * @param defaultStatus    未命中任何范围时的HTTP状态码
+     * @param statusMappings   状态码映射，格式为"错误码=状态码"或"起始错误码-结束错误码=状态码"，范围嵌套时最窄的范围生效
+     * @param cacheMaximumSize 缓存响应体的最大错误码数，0表示不缓存
+     */
+    public CodeExceptionHandler(int defaultStatus, Collection<String> statusMappings, int cacheMaximumSize) {
+        this.defaultStatus = HttpStatus.valueOf(defaultStatus).value();
+        this.statusRanges = parseStatusMappings(statusMappings);
+        this.cacheMaximumSize = cacheMaximumSize;
+    }
+
+    /**
+     * 处理CodeException
+     *
+     * @param exception 异常
+     * @return 错误响应
+     */
+    @ExceptionHandler(CodeException.class)
+    public ResponseEntity<byte[]> handleCodeException(CodeException exception) {
+        return ResponseEntity.status(status(exception.getCode()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body(exception));
+    }
+
+    /**
+     * 获取错误码对应的HTTP状态码
+     *
+     * @param code 错误码
+     * @return HTTP状态码
+     */
+    public int status(int code) {
+        int[] ranges = statusRanges;
+        int low = 0;
+        int high = ranges.length / 3 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (code < ranges[mid * 3]) {
+                high = mid - 1;
+            } else if (code > ranges[mid * 3 + 1]) {
+                low = mid + 1;
+            } else {
+                return ranges[mid * 3 + 2];
+            }
+        }
+        return defaultStatus;
+    }
+
+    /**
+     * 获取异常的UTF-8响应体
+     *
+     * @param exception 异常
+     * @return 响应体
+     */
+    public byte[] body(CodeException exception) {
+        int code = exception.getCode();
+        String msg = exception.getMessage();
+        if (!(exception instanceof CodeErrorMsgException mapped && mapped.isMappedMessage())) {
+            return encode(code, msg);
+        }
+        Body body = bodies.get(code);
+        if (body != null && body.msg.equals(msg)) {
+            return body.bytes;
+        }
+        byte[] bytes = encode(code, msg);
+        if (body != null || bodies.size() < cacheMaximumSize) {
+            bodies.put(code, new Body(msg, bytes));
+        }
+        return bytes;
+    }
+
+    /**
+     * 清空缓存的响应体
+     */
+    public void clearCache() {
+        bodies.clear();
+    }
+
+    private static byte[] encode(int code, String msg) {
+        JsonFactory factory = JacksonUtils.getObjectMapper().getFactory();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + (msg == null ? 0 : msg.length() * 3));
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("code", code);
+            generator.writeStringField("msg", msg);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static int[] parseStatusMappings(Collection<String> mappings) {
+        List<int[]> ranges = new ArrayList<>(mappings.size());
+        for (String mapping : mappings) {
+            int eq = mapping.lastIndexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Invalid status mapping: " + mapping);
+            }
+            String codes = mapping.substring(0, eq).trim();
+            int dash = codes.indexOf('-', 1);
+            try {
+                int from = Integer.parseInt((dash < 0 ? codes : codes.substring(0, dash)).trim());
+                int to = dash < 0 ? from : Integer.parseInt(codes.substring(dash + 1).trim());
+                int status = HttpStatus.valueOf(Integer.parseInt(mapping.substring(eq + 1).trim())).value();
+                if (from > to) {
+                    throw new IllegalArgumentException("Invalid status mapping: " + mapping);
+                }
+                ranges.add(new int[]{from, to, status});
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid status mapping: " + mapping, e);
+            }
+        }
+        // 拆分为互不重叠的区段，每个区段取包含它的最窄范围的状态码
+        TreeSet<Long> bounds = new TreeSet<>();
+        for (int[] range : ranges) {
+            bounds.add((long) range[0]);
+            bounds.add(range[1] + 1L);
+        }
+        List<int[]> segments = new ArrayList<>();
+        Long from = null;
+        for (Long bound : bounds) {
+            if (from != null) {
+                int[] narrowest = null;
+                for (int[] range : ranges) {
+                    if (range[0] <= from && from <= range[1]
+                            && (narrowest == null || (long) range[1] - range[0] < (long) narrowest[1] - narrowest[0])) {
+                        narrowest = range;
+                    }
+                }
+                if (narrowest != null) {
+                    int[] last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+                    if (last != null && last[2] == narrowest[2] && last[1] + 1L == from) {
+                        last[1] = (int) (bound - 1);
+                    } else {
+                        segments.add(new int[]{from.intValue(), (int) (bound - 1), narrowest[2]});
+                    }
+                }
+            }
+            from = bound;
+        }
+        int[] result = new int[segments.size() * 3];
+        for (int i = 0; i < segments.size(); i++) {
+            System.arraycopy(segments.get(i), 0, result, i * 3, 3);
+        }
+        return result;
+    }
+
+    /**
+     * 缓存的响应体
+     *
+     * @param msg   编码时的错误消息
+     * @param bytes UTF-8响应体
+     */
+    private record Body(String msg, byte[] bytes) {
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.exception;
+
+import com.opsdevkit.autoconfigure.core.exception.CodeExceptionMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * CodeExceptionMeterBinder
+ * 将{@link CodeExceptionMetrics}的按错误码计数注册为Micrometer计数器，每个错误码一个带code标签的计数器，
+ * 新出现的错误码在首次出现时注册。速率由监控后端根据计数器计算。
+ * 可以绑定到多个MeterRegistry，销毁时只移除本实例添加的回调
+ *
+ * @author agent
+ * @since 2026/10/17 01:15
+ */
+public class CodeExceptionMeterBinder implements MeterBinder, DisposableBean {
+
+    /**
+     * 指标名称
+     */
+    public static final String METRIC_NAME = "y-frame.exceptions";
+
+    /**
+     * 本实例添加的回调，每个MeterRegistry一个
+     */
+    private final List<Consumer<CodeExceptionMetrics.CodeStats>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Consumer<CodeExceptionMetrics.CodeStats> listener = stats -> FunctionCounter
+                .builder(METRIC_NAME, stats, CodeExceptionMetrics.CodeStats::getCount)
+                .tag("code", String.valueOf(stats.getCode()))
+                .description("Number of CodeException instances created per error code")
+                .register(registry);
+        listeners.add(listener);
+        CodeExceptionMetrics.addNewCodeListener(listener);
+    }
+
+    @Override
+    public void destroy() {
+        listeners.forEach(CodeExceptionMetrics::removeNewCodeListener);
+        listeners.clear();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.exception;
+
+import com.opsdevkit.autoconfigure.core.exception.ErrorMsgRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * ExceptionAutoConfiguration
+ * 异常相关的自动配置
+ *
+ * @author agent
+ * @since 2026/10/17 01:07
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ExceptionProperties.class)
+public class ExceptionAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionInitializer exceptionInitializer(ExceptionProperties properties,
+                                                     ObjectProvider<ErrorMsgRegistry> errorMsgRegistry) {
+        return new ExceptionInitializer(properties, errorMsgRegistry.getIfUnique());
+    }
+
+    /**
+     * 存在Micrometer时输出按错误码统计的指标
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = ExceptionProperties.PREFIX, name = "metrics.enabled", havingValue = "true")
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public CodeExceptionMeterBinder codeExceptionMeterBinder() {
+            return new CodeExceptionMeterBinder();
+        }
+    }
+
+    /**
+     * Servlet Web应用中注册CodeException的全局异常处理
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(RestControllerAdvice.class)
+    @ConditionalOnProperty(prefix = ExceptionProperties.PREFIX, name = "handler.enabled", matchIfMissing = true)
+    static class HandlerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public CodeExceptionHandler codeExceptionHandler(ExceptionProperties properties) {
+            ExceptionProperties.Handler handler = properties.getHandler();
+            return new CodeExceptionHandler(handler.getDefaultStatus(), handler.getStatusMappings(),
+                    handler.getCacheMaximumSize());
+        }
+    }
+}
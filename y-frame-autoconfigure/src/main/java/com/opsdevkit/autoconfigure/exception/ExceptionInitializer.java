@@ -0,0 +1,102 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.exception;
+
+import com.opsdevkit.autoconfigure.core.exception.CodeErrorMsgException;
+import com.opsdevkit.autoconfigure.core.exception.CodeExceptionMetrics;
+import com.opsdevkit.autoconfigure.core.exception.ErrorMsgRegistry;
+import com.opsdevkit.autoconfigure.core.exception.FlyweightExceptions;
+import com.opsdevkit.autoconfigure.core.exception.StacklessCodes;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * ExceptionInitializer
+ * 将{@link ExceptionProperties}应用到异常包的静态配置，容器关闭时清除。
+ * 容器中存在{@link ErrorMsgRegistry}时将其设置为错误消息映射，否则按配置的资源位置创建注册表；
+ * 注册表按{@link LocaleContextHolder}中的区域查询消息
+ *
+ * @author agent
+ * @since 2026/10/17 01:07
+ */
+public class ExceptionInitializer implements InitializingBean, DisposableBean {
+
+    private final ExceptionProperties properties;
+
+    /**
+     * 设置为错误消息映射的注册表，未配置时为空
+     */
+    @Getter
+    private ErrorMsgRegistry errorMsgRegistry;
+
+    /**
+     * 注册表是否由本初始化器创建，创建者负责关闭
+     */
+    private final boolean ownsRegistry;
+
+    /**
+     * 创建初始化器
+     *
+     * @param properties       配置
+     * @param errorMsgRegistry 容器中的注册表，可以为空
+     */
+    public ExceptionInitializer(ExceptionProperties properties, ErrorMsgRegistry errorMsgRegistry) {
+        this.properties = properties;
+        this.errorMsgRegistry = errorMsgRegistry;
+        this.ownsRegistry = errorMsgRegistry == null;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        StacklessCodes.setRanges(properties.getStacklessCodes());
+        ExceptionProperties.Metrics metrics = properties.getMetrics();
+        CodeExceptionMetrics.setSampleRate(metrics.getSampleRate());
+        CodeExceptionMetrics.setSampleCapacity(metrics.getSampleCapacity());
+        CodeExceptionMetrics.setMaxStackDepth(metrics.getMaxStackDepth());
+        CodeExceptionMetrics.setEnabled(metrics.isEnabled());
+        ExceptionProperties.ErrorMsg config = properties.getErrorMsg();
+        if (errorMsgRegistry == null && !config.getLocations().isEmpty()) {
+            errorMsgRegistry = ErrorMsgRegistry.of(config.getLocations(), config.getDefaultMessage());
+            if (config.isWatch()) {
+                errorMsgRegistry.watch();
+            }
+        }
+        if (errorMsgRegistry != null) {
+            errorMsgRegistry.setLocaleResolver(LocaleContextHolder::getLocale);
+            errorMsgRegistry.install();
+        }
+        // 共享实例在错误消息映射设置之后创建
+        FlyweightExceptions.register(properties.getFlyweightCodes());
+    }
+
+    @Override
+    public void destroy() {
+        StacklessCodes.clear();
+        FlyweightExceptions.clear();
+        CodeExceptionMetrics.setEnabled(false);
+        if (errorMsgRegistry != null) {
+            if (CodeErrorMsgException.getErrorMsg() == errorMsgRegistry) {
+                CodeErrorMsgException.setErrorMsg(null);
+            }
+            if (ownsRegistry) {
+                errorMsgRegistry.close();
+            }
+        }
+    }
+}
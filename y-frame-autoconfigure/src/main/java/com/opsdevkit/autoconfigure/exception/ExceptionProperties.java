@@ -0,0 +1,149 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.exception;
+
+import com.opsdevkit.autoconfigure.core.exception.CodeExceptionMetrics;
+import com.opsdevkit.autoconfigure.core.exception.ErrorMsgRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ExceptionProperties
+ * {@link com.opsdevkit.autoconfigure.core.exception.ServiceException}相关配置
+ *
+ * @author agent
+ * @since 2026/10/17 01:07
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = ExceptionProperties.PREFIX)
+public class ExceptionProperties {
+
+    /**
+     * 配置前缀
+     */
+    public static final String PREFIX = "y-frame.exception";
+
+    /**
+     * 创建轻量异常（不填充栈轨迹）的错误码范围，单个错误码（如"404"）或闭区间（如"200000-299999"）
+     */
+    private List<String> stacklessCodes = new ArrayList<>();
+
+    /**
+     * 使用共享异常实例的高频错误码，ServiceException.of(code)对这些错误码不再分配新实例
+     */
+    private List<Integer> flyweightCodes = new ArrayList<>();
+
+    /**
+     * 错误码消息注册表配置
+     */
+    private ErrorMsg errorMsg = new ErrorMsg();
+
+    /**
+     * 按错误码统计异常的配置
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 全局REST异常处理配置
+     */
+    private Handler handler = new Handler();
+
+    /**
+     * 错误码消息注册表配置
+     */
+    @Getter
+    @Setter
+    public static class ErrorMsg {
+
+        /**
+         * 错误码消息资源位置，支持properties与YAML，以classpath:开头的为类路径资源，否则为文件路径。
+         * 文件名可携带区域后缀，如error-msg_zh_CN.yml
+         */
+        private List<String> locations = new ArrayList<>();
+
+        /**
+         * 是否监听文件资源并在修改后自动重新加载
+         */
+        private boolean watch = false;
+
+        /**
+         * 未配置错误码时返回的消息
+         */
+        private String defaultMessage = ErrorMsgRegistry.DEFAULT_MESSAGE;
+    }
+
+    /**
+     * 按错误码统计异常的配置
+     */
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * 是否按错误码统计异常的创建次数
+         */
+        private boolean enabled = false;
+
+        /**
+         * 采样率，每个错误码平均每N次采样1次调用栈，0表示不采样
+         */
+        private int sampleRate = CodeExceptionMetrics.DEFAULT_SAMPLE_RATE;
+
+        /**
+         * 每个错误码保留的最近采样数
+         */
+        private int sampleCapacity = CodeExceptionMetrics.DEFAULT_SAMPLE_CAPACITY;
+
+        /**
+         * 采样栈的最大深度
+         */
+        private int maxStackDepth = CodeExceptionMetrics.DEFAULT_MAX_STACK_DEPTH;
+    }
+
+    /**
+     * 全局REST异常处理配置
+     */
+    @Getter
+    @Setter
+    public static class Handler {
+
+        /**
+         * 是否注册CodeException的全局异常处理
+         */
+        private boolean enabled = true;
+
+        /**
+         * 未命中任何映射时的HTTP状态码
+         */
+        private int defaultStatus = 500;
+
+        /**
+         * 按错误码范围映射HTTP状态码，格式为"错误码=状态码"或"起始错误码-结束错误码=状态码"，范围嵌套时最窄的范围生效
+         */
+        private List<String> statusMappings = new ArrayList<>();
+
+        /**
+         * 缓存预编码响应体的最大错误码数，0表示不缓存
+         */
+        private int cacheMaximumSize = CodeExceptionHandler.DEFAULT_CACHE_MAXIMUM_SIZE;
+    }
+}
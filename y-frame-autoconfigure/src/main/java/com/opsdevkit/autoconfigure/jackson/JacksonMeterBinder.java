@@ -0,0 +1,117 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.jackson;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonMeterBinder
+ * 将{@link JacksonMetrics}的埋点输出为Micrometer指标：每个操作与目标类型一个计时器（耗时与调用次数）
+ * 和一个分布摘要（负载大小），带operation与type标签。指标在类型首次出现时注册并缓存，之后每次记录只有一次Map查找。
+ * 可以绑定到多个MeterRegistry，每个MeterRegistry一个记录器，销毁时只移除本实例添加的记录器
+ *
+ * @author agent
+ * @since 2026/10/17 01:52
+ */
+public class JacksonMeterBinder implements MeterBinder, DisposableBean {
+
+    /**
+     * 耗时指标名称
+     */
+    public static final String METRIC_NAME = "y-frame.jackson";
+
+    /**
+     * 负载大小指标名称
+     */
+    public static final String PAYLOAD_METRIC_NAME = "y-frame.jackson.payload";
+
+    private final boolean percentileHistogram;
+
+    /**
+     * 本实例添加的记录器，每个MeterRegistry一个
+     */
+    private final List<JacksonMetrics.Recorder> recorders = new CopyOnWriteArrayList<>();
+
+    /**
+     * 创建指标绑定
+     *
+     * @param percentileHistogram 是否发布百分位直方图
+     */
+    public JacksonMeterBinder(boolean percentileHistogram) {
+        this.percentileHistogram = percentileHistogram;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Map<JacksonMetrics.Operation, ConcurrentHashMap<JavaType, Meters>> meters =
+                new EnumMap<>(JacksonMetrics.Operation.class);
+        for (JacksonMetrics.Operation operation : JacksonMetrics.Operation.values()) {
+            meters.put(operation, new ConcurrentHashMap<>());
+        }
+        JacksonMetrics.Recorder current = (operation, type, elapsedNanos, bytes) -> {
+            Meters entry = meters.get(operation).computeIfAbsent(type, key -> register(registry, operation, key));
+            entry.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (bytes >= 0) {
+                entry.payload.record(bytes);
+            }
+        };
+        recorders.add(current);
+        JacksonMetrics.addRecorder(current);
+    }
+
+    @Override
+    public void destroy() {
+        recorders.forEach(JacksonMetrics::removeRecorder);
+        recorders.clear();
+    }
+
+    private Meters register(MeterRegistry registry, JacksonMetrics.Operation operation, JavaType type) {
+        String operationTag = operation.name().toLowerCase(Locale.ROOT);
+        String typeTag = type.toCanonical();
+        Timer timer = Timer.builder(METRIC_NAME)
+                .tag("operation", operationTag)
+                .tag("type", typeTag)
+                .description("Time spent in JacksonUtils serialization and deserialization per type")
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+        DistributionSummary payload = DistributionSummary.builder(PAYLOAD_METRIC_NAME)
+                .tag("operation", operationTag)
+                .tag("type", typeTag)
+                .baseUnit("bytes")
+                .description("JSON payload size per type, in UTF-8 bytes")
+                .publishPercentileHistogram(percentileHistogram)
+                .register(registry);
+        return new Meters(timer, payload);
+    }
+
+    private record Meters(Timer timer, DistributionSummary payload) {
+    }
+}
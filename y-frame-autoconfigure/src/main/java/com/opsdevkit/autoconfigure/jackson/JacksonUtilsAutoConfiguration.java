@@ -0,0 +1,75 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * JacksonUtilsAutoConfiguration
+ * 在Spring Boot的Jackson自动配置之后，将容器中的ObjectMapper发布到JacksonUtils
+ *
+ * @author agent
+ * @since 2026/10/17 01:00
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnClass(ObjectMapper.class)
+@ConditionalOnProperty(prefix = JacksonUtilsProperties.PREFIX, name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(JacksonUtilsProperties.class)
+public class JacksonUtilsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public JacksonUtilsInitializer jacksonUtilsInitializer(ObjectProvider<ObjectMapper> objectMapper,
+                                                           JacksonUtilsProperties properties, Environment environment) {
+        return new JacksonUtilsInitializer(objectMapper.getIfUnique(), properties, Threading.VIRTUAL.isActive(environment));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = JacksonUtilsProperties.PREFIX, name = "warm-up.enabled")
+    public JacksonWarmUpInitializer jacksonWarmUpInitializer(BeanFactory beanFactory, JacksonUtilsProperties properties) {
+        return new JacksonWarmUpInitializer(beanFactory, properties.getWarmUp());
+    }
+
+    /**
+     * 存在Micrometer时输出按类型统计的序列化与反序列化指标
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = JacksonUtilsProperties.PREFIX, name = "metrics.enabled", havingValue = "true")
+    static class MetricsConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public JacksonMeterBinder jacksonMeterBinder(JacksonUtilsProperties properties) {
+            return new JacksonMeterBinder(properties.getMetrics().isPercentileHistogram());
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonBulk;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonModules;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonProfile;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonRecyclerPools;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import lombok.Getter;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JacksonUtilsInitializer
+ * 将Spring容器中的ObjectMapper发布到{@link JacksonUtils}。
+ * 发布的是容器ObjectMapper的副本：保留其模块与定制，同时按{@link JacksonUtilsProperties}调整，
+ * 不影响Web层等其他组件使用的ObjectMapper。{@link JacksonUtilsProperties#getProfiles()}中的命名配置以该副本为基础注册。
+ * 读取约束与BufferRecycler池策略设置在发布的副本上；{@link JacksonUtilsProperties#getBulk()}发布为JacksonUtils批量方法的配置。
+ * 容器关闭时恢复JacksonUtils的默认实例与批量配置，并移除注册的命名配置。
+ *
+ * @author agent
+ * @since 2026/10/17 01:00
+ */
+public class JacksonUtilsInitializer implements InitializingBean, DisposableBean {
+
+    private final ObjectMapper contextObjectMapper;
+
+    private final JacksonUtilsProperties properties;
+
+    /**
+     * 应用是否启用了虚拟线程
+     */
+    private final boolean virtualThreads;
+
+    /**
+     * 发布到JacksonUtils的ObjectMapper
+     */
+    @Getter
+    private ObjectMapper objectMapper;
+
+    /**
+     * 注册到JacksonUtils的命名配置
+     */
+    private final List<JacksonProfile> profiles = new ArrayList<>();
+
+    /**
+     * 发布到JacksonUtils的批量配置
+     */
+    private JacksonBulk bulk;
+
+    /**
+     * 创建初始化器
+     *
+     * @param contextObjectMapper 容器中的ObjectMapper，为空时以JacksonUtils的默认配置为基础
+     * @param properties          配置
+     */
+    public JacksonUtilsInitializer(ObjectMapper contextObjectMapper, JacksonUtilsProperties properties) {
+        this(contextObjectMapper, properties, false);
+    }
+
+    /**
+     * 创建初始化器
+     *
+     * @param contextObjectMapper 容器中的ObjectMapper，为空时以JacksonUtils的默认配置为基础
+     * @param properties          配置
+     * @param virtualThreads      应用是否启用了虚拟线程，启用且未设置BufferRecycler池策略时使用分段池
+     */
+    public JacksonUtilsInitializer(ObjectMapper contextObjectMapper, JacksonUtilsProperties properties, boolean virtualThreads) {
+        this.contextObjectMapper = contextObjectMapper;
+        this.properties = properties;
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * BufferRecycler池策略：优先使用配置的策略，其次在启用虚拟线程时使用分段池，否则使用默认策略
+     *
+     * @return 策略
+     */
+    private JacksonRecyclerPools.Strategy recyclerPoolStrategy() {
+        if (properties.getRecyclerPool() != null) {
+            return properties.getRecyclerPool();
+        }
+        return virtualThreads ? JacksonRecyclerPools.Strategy.STRIPED : JacksonRecyclerPools.defaultStrategy();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ObjectMapper mapper = contextObjectMapper != null ? contextObjectMapper.copy() : JacksonUtils.createDefaultObjectMapper();
+        if (properties.getDefaultPropertyInclusion() != null
+                && properties.getDefaultPropertyInclusion() != JsonInclude.Include.USE_DEFAULTS) {
+            mapper.setSerializationInclusion(properties.getDefaultPropertyInclusion());
+        }
+        if (properties.getFailOnUnknownProperties() != null) {
+            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, properties.getFailOnUnknownProperties());
+        }
+        if (properties.isBlackbird()) {
+            JacksonModules.registerBlackbird(mapper);
+        }
+        JacksonRecyclerPools.apply(mapper, recyclerPoolStrategy());
+        JacksonUtilsProperties.ReadConstraints constraints = properties.getReadConstraints();
+        JacksonUtils.applyReadConstraints(mapper, constraints.getMaxDocumentLength(), constraints.getMaxNestingDepth(),
+                constraints.getMaxStringLength(), constraints.getMaxNumberLength());
+        this.objectMapper = mapper;
+        JacksonUtils.setCacheMaximumSize(properties.getCacheMaximumSize());
+        JacksonUtils.setObjectMapper(mapper);
+        for (Map.Entry<String, JacksonUtilsProperties.Profile> entry : properties.getProfiles().entrySet()) {
+            profiles.add(JacksonUtils.registerProfile(entry.getKey(), createProfileMapper(mapper, entry.getValue())));
+        }
+        this.bulk = createBulk(properties.getBulk());
+        JacksonUtils.setBulk(bulk);
+    }
+
+    @Override
+    public void destroy() {
+        profiles.forEach(JacksonUtils::removeProfile);
+        profiles.clear();
+        if (bulk != null && JacksonUtils.getBulk() == bulk) {
+            JacksonUtils.setBulk(null);
+        }
+        if (objectMapper != null && JacksonUtils.getObjectMapper() == objectMapper) {
+            JacksonUtils.setObjectMapper(null);
+        }
+    }
+
+    /**
+     * 以基础ObjectMapper的副本创建命名配置的ObjectMapper
+     */
+    private static ObjectMapper createProfileMapper(ObjectMapper base, JacksonUtilsProperties.Profile profile) {
+        ObjectMapper mapper = base.copy();
+        if (profile.getDefaultPropertyInclusion() != null) {
+            mapper.setSerializationInclusion(profile.getDefaultPropertyInclusion());
+        }
+        if (profile.getFailOnUnknownProperties() != null) {
+            mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, profile.getFailOnUnknownProperties());
+        }
+        if (profile.getPropertyNamingStrategy() != null) {
+            mapper.setPropertyNamingStrategy(namingStrategy(profile.getPropertyNamingStrategy()));
+        }
+        profile.getSerialization().forEach(mapper::configure);
+        profile.getDeserialization().forEach(mapper::configure);
+        return mapper;
+    }
+
+    /**
+     * 按配置创建批量处理配置
+     */
+    private static JacksonBulk createBulk(JacksonUtilsProperties.Bulk bulk) {
+        JacksonBulk.Builder builder = JacksonBulk.builder().threshold(bulk.getThreshold());
+        if (bulk.getExecutor() == JacksonUtilsProperties.BulkExecutor.FORK_JOIN) {
+            builder.executor(ForkJoinPool.commonPool());
+        }
+        if (bulk.getParallelism() != null) {
+            builder.parallelism(bulk.getParallelism());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 按常量名解析PropertyNamingStrategies中的命名策略，忽略大小写，连字符视为下划线
+     */
+    private static PropertyNamingStrategy namingStrategy(String name) {
+        String field = name.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        try {
+            return (PropertyNamingStrategy) PropertyNamingStrategies.class.getField(field).get(null);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException("Unknown property naming strategy: " + name, e);
+        }
+    }
+}
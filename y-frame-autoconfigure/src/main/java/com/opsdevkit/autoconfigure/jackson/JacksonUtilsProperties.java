@@ -0,0 +1,246 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonBulk;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonCache;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonRecyclerPools;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JacksonUtilsProperties
+ * {@link com.opsdevkit.autoconfigure.core.jackson.JacksonUtils}使用的ObjectMapper配置
+ *
+ * @author agent
+ * @since 2026/10/17 01:00
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = JacksonUtilsProperties.PREFIX)
+public class JacksonUtilsProperties {
+
+    /**
+     * 配置前缀
+     */
+    public static final String PREFIX = "y-frame.jackson";
+
+    /**
+     * 是否将Spring容器中的ObjectMapper发布到JacksonUtils
+     */
+    private boolean enabled = true;
+
+    /**
+     * 序列化时属性的包含策略，默认NON_NULL；设置为USE_DEFAULTS时沿用容器中ObjectMapper的配置，即spring.jackson的配置
+     */
+    private JsonInclude.Include defaultPropertyInclusion = JsonInclude.Include.NON_NULL;
+
+    /**
+     * 反序列化遇到未知属性时是否失败，未设置时沿用基础ObjectMapper的配置
+     */
+    private Boolean failOnUnknownProperties;
+
+    /**
+     * 是否注册Blackbird模块，以生成的访问器替代反射调用属性的getter/setter，模块不可用时回退到反射
+     */
+    private boolean blackbird = false;
+
+    /**
+     * JavaType、ObjectReader与ObjectWriter缓存的最大条目数
+     */
+    private int cacheMaximumSize = JacksonCache.DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * BufferRecycler池策略，未设置时启用了虚拟线程（spring.threads.virtual.enabled）则为striped，否则为thread-local
+     */
+    private JacksonRecyclerPools.Strategy recyclerPool;
+
+    /**
+     * 命名配置，键为配置名称，通过JacksonUtils.profile(name)使用。
+     * 每个配置以发布到JacksonUtils的ObjectMapper的副本为基础，未设置的项沿用该ObjectMapper的配置
+     */
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    /**
+     * 启动预热
+     */
+    private WarmUp warmUp = new WarmUp();
+
+    /**
+     * 批量序列化与反序列化
+     */
+    private Bulk bulk = new Bulk();
+
+    /**
+     * 读取约束，限制单个JSON文档的规模，超出时抛出错误码为JacksonUtils.JSON_CONSTRAINT_ERROR的服务异常
+     */
+    private ReadConstraints readConstraints = new ReadConstraints();
+
+    /**
+     * 序列化与反序列化的埋点
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 命名配置
+     */
+    @Getter
+    @Setter
+    public static class Profile {
+
+        /**
+         * 序列化时属性的包含策略
+         */
+        private JsonInclude.Include defaultPropertyInclusion;
+
+        /**
+         * 反序列化遇到未知属性时是否失败
+         */
+        private Boolean failOnUnknownProperties;
+
+        /**
+         * 属性命名策略，取PropertyNamingStrategies中的常量名，如SNAKE_CASE、KEBAB_CASE
+         */
+        private String propertyNamingStrategy;
+
+        /**
+         * 开启或关闭的序列化特性
+         */
+        private Map<SerializationFeature, Boolean> serialization = new EnumMap<>(SerializationFeature.class);
+
+        /**
+         * 开启或关闭的反序列化特性
+         */
+        private Map<DeserializationFeature, Boolean> deserialization = new EnumMap<>(DeserializationFeature.class);
+    }
+
+    /**
+     * 启动预热配置
+     */
+    @Getter
+    @Setter
+    public static class WarmUp {
+
+        /**
+         * 是否在启动时预热JacksonUtils的ObjectMapper
+         */
+        private boolean enabled = false;
+
+        /**
+         * 预热其中全部类的包；应用包（@SpringBootApplication所在包）下带有@JacksonWarmUp注解的类总是被预热
+         */
+        private List<String> packages = new ArrayList<>();
+
+        /**
+         * 每个类型的序列化与反序列化往返次数，0表示只构建序列化器与反序列化器
+         */
+        private int roundTrips = 0;
+    }
+
+    /**
+     * 批量序列化与反序列化配置，用于JacksonUtils.toJsonAll与fromJsonAll
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        /**
+         * 处理分片的执行器
+         */
+        private BulkExecutor executor = BulkExecutor.VIRTUAL;
+
+        /**
+         * 并行阈值，条目数低于该值时在调用线程上顺序处理
+         */
+        private int threshold = JacksonBulk.DEFAULT_THRESHOLD;
+
+        /**
+         * 并行度，即一批条目切分的最大分片数，未设置时为可用处理器数
+         */
+        private Integer parallelism;
+    }
+
+    /**
+     * 批量处理的执行器
+     */
+    public enum BulkExecutor {
+        /**
+         * 每个分片一个虚拟线程，JDK不支持虚拟线程时回退到公共ForkJoinPool
+         */
+        VIRTUAL,
+        /**
+         * 公共ForkJoinPool
+         */
+        FORK_JOIN
+    }
+
+    /**
+     * 读取约束，未设置的项沿用Jackson的默认值（文档长度不限，嵌套深度1000，字符串长度20000000，数字长度1000）
+     */
+    @Getter
+    @Setter
+    public static class ReadConstraints {
+
+        /**
+         * 文档的最大长度（字节或字符）
+         */
+        private Long maxDocumentLength;
+
+        /**
+         * 对象与数组的最大嵌套深度
+         */
+        private Integer maxNestingDepth;
+
+        /**
+         * 字符串的最大长度
+         */
+        private Integer maxStringLength;
+
+        /**
+         * 数字的最大长度
+         */
+        private Integer maxNumberLength;
+    }
+
+    /**
+     * 埋点配置
+     */
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * 是否按目标类型将toJson/fromJson的耗时、负载大小与调用次数输出到Micrometer
+         */
+        private boolean enabled = false;
+
+        /**
+         * 是否为耗时与负载大小发布可聚合的百分位直方图
+         */
+        private boolean percentileHistogram = true;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.jackson;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.util.Set;
+
+/**
+ * JacksonWarmUpAotProcessor
+ * AOT构建时为预热类型注册GraalVM原生镜像的反射提示，使这些类型在原生镜像中可被Jackson绑定。
+ * 类型的查找方式与启动预热一致，不要求启用y-frame.jackson.warm-up.enabled
+ *
+ * @author agent
+ * @since 2026/10/17 01:42
+ */
+class JacksonWarmUpAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        if (!beanFactory.containsBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME)) {
+            return null;
+        }
+        Environment environment = beanFactory.getBean(ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME, Environment.class);
+        JacksonUtilsProperties.WarmUp properties = Binder.get(environment)
+                .bind(JacksonUtilsProperties.PREFIX + ".warm-up", JacksonUtilsProperties.WarmUp.class)
+                .orElseGet(JacksonUtilsProperties.WarmUp::new);
+        Set<Class<?>> types = JacksonWarmUpScanner.scan(beanFactory, properties.getPackages(), beanFactory.getBeanClassLoader());
+        if (types.isEmpty()) {
+            return null;
+        }
+        return (generationContext, code) -> new BindingReflectionHintsRegistrar()
+                .registerReflectionHints(generationContext.getRuntimeHints().reflection(), types.toArray(new Class<?>[0]));
+    }
+}
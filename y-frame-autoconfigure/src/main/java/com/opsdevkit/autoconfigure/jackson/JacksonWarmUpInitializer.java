@@ -0,0 +1,99 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.jackson;
+
+import com.opsdevkit.autoconfigure.core.jackson.JacksonCache;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonProfile;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonWarmer;
+import lombok.Getter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JacksonWarmUpInitializer
+ * 在全部单例创建完成后、Web服务开始接收请求前预热{@link JacksonUtils}的ObjectMapper与已注册的各命名配置，
+ * 并记录预热的类型数与耗时
+ *
+ * @author agent
+ * @since 2026/10/17 01:42
+ */
+public class JacksonWarmUpInitializer implements SmartInitializingSingleton {
+
+    private static final Log LOGGER = LogFactory.getLog(JacksonWarmUpInitializer.class);
+
+    private final BeanFactory beanFactory;
+
+    private final JacksonUtilsProperties.WarmUp properties;
+
+    /**
+     * 最近一次预热的结果，尚未预热时为null
+     */
+    @Getter
+    private JacksonWarmer.Result result;
+
+    /**
+     * 最近一次预热各命名配置的结果，以配置名称为键
+     */
+    @Getter
+    private Map<String, JacksonWarmer.Result> profileResults = Map.of();
+
+    /**
+     * 创建预热器
+     *
+     * @param beanFactory 用于确定应用包的BeanFactory
+     * @param properties  预热配置
+     */
+    public JacksonWarmUpInitializer(BeanFactory beanFactory, JacksonUtilsProperties.WarmUp properties) {
+        this.beanFactory = beanFactory;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<Class<?>> types = JacksonWarmUpScanner.scan(beanFactory, properties.getPackages(),
+                getClass().getClassLoader());
+        result = warmUp("default", JacksonUtils.getCache(), types);
+        Map<String, JacksonWarmer.Result> profiles = new LinkedHashMap<>();
+        for (String name : JacksonUtils.getProfileNames()) {
+            JacksonProfile profile = JacksonUtils.profile(name);
+            profiles.put(name, warmUp("profile '" + name + "'", profile.getCache(), types));
+        }
+        profileResults = Collections.unmodifiableMap(profiles);
+    }
+
+    private JacksonWarmer.Result warmUp(String target, JacksonCache cache, Set<Class<?>> types) {
+        JacksonWarmer.Result warmed = JacksonWarmer.warmUp(cache, types, properties.getRoundTrips());
+        LOGGER.info("Jackson warm-up (" + target + "): " + warmed.warmed() + " types warmed in "
+                + warmed.elapsedMillis() + " ms, " + warmed.failed().size() + " failed");
+        if (!warmed.failed().isEmpty()) {
+            LOGGER.warn("Jackson warm-up (" + target + ") failed for " + warmed.failed());
+        }
+        if (types.size() > cache.getMaximumSize()) {
+            LOGGER.warn("Jackson warm-up (" + target + "): " + types.size() + " types exceed cache maximum size "
+                    + cache.getMaximumSize() + ", raise y-frame.jackson.cache-maximum-size");
+        }
+        return warmed;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.autoconfigure.jackson;
+
+import com.opsdevkit.autoconfigure.core.jackson.JacksonWarmUp;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JacksonWarmUpScanner
+ * 查找需要预热的类型：配置包下的全部独立类，以及应用包下带有{@link JacksonWarmUp}注解的类。
+ * 启动预热与AOT反射提示使用同一结果
+ *
+ * @author agent
+ * @since 2026/10/17 01:42
+ */
+final class JacksonWarmUpScanner {
+
+    private JacksonWarmUpScanner() {
+    }
+
+    /**
+     * 查找需要预热的类型
+     *
+     * @param beanFactory 用于确定应用包的BeanFactory
+     * @param packages    预热其中全部类的包
+     * @param classLoader 加载类型的ClassLoader
+     * @return 类型集合，按扫描顺序
+     */
+    static Set<Class<?>> scan(BeanFactory beanFactory, Collection<String> packages, ClassLoader classLoader) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        ClassPathScanningCandidateComponentProvider all = new ClassPathScanningCandidateComponentProvider(false);
+        all.addIncludeFilter((reader, factory) -> !reader.getClassMetadata().isAnnotation());
+        for (String pkg : packages) {
+            addAll(types, all.findCandidateComponents(pkg), classLoader);
+        }
+        List<String> applicationPackages = AutoConfigurationPackages.has(beanFactory)
+                ? AutoConfigurationPackages.get(beanFactory) : List.of();
+        ClassPathScanningCandidateComponentProvider annotated = new ClassPathScanningCandidateComponentProvider(false);
+        annotated.addIncludeFilter(new AnnotationTypeFilter(JacksonWarmUp.class));
+        for (String pkg : applicationPackages) {
+            addAll(types, annotated.findCandidateComponents(pkg), classLoader);
+        }
+        return types;
+    }
+
+    private static void addAll(Set<Class<?>> types, Set<BeanDefinition> candidates, ClassLoader classLoader) {
+        for (BeanDefinition candidate : candidates) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.opsdevkit.autoconfigure.core.exception;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CodeErrorMsgExceptionTest {
@@ -61,4 +64,25 @@ class CodeErrorMsgExceptionTest {
         CodeErrorMsgException exception = new CodeErrorMsgException(TEST_CODE);
         assertTrue(exception instanceof CodeException);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMessageResolvedLazilyOnce() {
+        AtomicInteger lookups = new AtomicInteger();
+        CodeErrorMsgException.setErrorMsg(code -> {
+            lookups.incrementAndGet();
+            return "msg-" + code;
+        });
+        CodeErrorMsgException exception = new CodeErrorMsgException(TEST_CODE, TEST_CAUSE);
+        assertEquals(0, lookups.get());
+        assertEquals("msg-1001", exception.getMessage());
+        assertEquals("msg-1001", exception.getLocalizedMessage());
+        assertEquals(1, lookups.get());
+        assertEquals(TEST_CAUSE, exception.getCause());
+    }
+
+    @Test
+    void testNullMappedMessage() {
+        CodeErrorMsgException.setErrorMsg(code -> null);
+        assertEquals("", new CodeErrorMsgException(TEST_CODE).getMessage());
+    }
+}
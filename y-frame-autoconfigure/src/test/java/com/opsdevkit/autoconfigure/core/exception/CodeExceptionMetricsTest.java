@@ -0,0 +1,97 @@
+package com.opsdevkit.autoconfigure.core.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeExceptionMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        CodeExceptionMetrics.reset();
+        CodeExceptionMetrics.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CodeExceptionMetrics.setEnabled(false);
+        CodeExceptionMetrics.setSampleRate(CodeExceptionMetrics.DEFAULT_SAMPLE_RATE);
+        CodeExceptionMetrics.reset();
+        FlyweightExceptions.clear();
+    }
+
+    @Test
+    void testCountsPerCode() {
+        CodeExceptionMetrics.setSampleRate(0);
+        for (int i = 0; i < 5; i++) {
+            ServiceException.of(700001, "a");
+        }
+        ServiceException.of(700002, "b", new IllegalStateException());
+        assertEquals(5, CodeExceptionMetrics.get(700001).getCount());
+        assertEquals(1, CodeExceptionMetrics.get(700002).getCount());
+        assertTrue(CodeExceptionMetrics.get(700001).getSamples().isEmpty());
+
+        CodeExceptionMetrics.setEnabled(false);
+        ServiceException.of(700001, "a");
+        assertEquals(5, CodeExceptionMetrics.get(700001).getCount());
+    }
+
+    @Test
+    void testFlyweightCountedOnUse() {
+        FlyweightExceptions.register(List.of(700003));
+        assertNull(CodeExceptionMetrics.get(700003));
+        ServiceException.of(700003);
+        ServiceException.of(700003);
+        assertEquals(2, CodeExceptionMetrics.get(700003).getCount());
+    }
+
+    @Test
+    void testSampledStackSkipsExceptionFrames() {
+        CodeExceptionMetrics.setSampleRate(1);
+        ServiceException.lightweight(700004, "stackless");
+        List<CodeExceptionMetrics.Sample> samples = CodeExceptionMetrics.get(700004).getSamples();
+        assertEquals(1, samples.size());
+        CodeExceptionMetrics.Sample sample = samples.get(0);
+        assertEquals(ServiceException.class.getName(), sample.exceptionClass());
+        assertEquals(getClass().getName(), sample.stackTrace()[0].getClassName());
+        assertEquals("testSampledStackSkipsExceptionFrames", sample.stackTrace()[0].getMethodName());
+    }
+
+    @Test
+    void testSampleCapacity() {
+        CodeExceptionMetrics.setSampleRate(1);
+        for (int i = 0; i < CodeExceptionMetrics.DEFAULT_SAMPLE_CAPACITY * 3; i++) {
+            ServiceException.of(700005, "x");
+        }
+        assertEquals(CodeExceptionMetrics.DEFAULT_SAMPLE_CAPACITY, CodeExceptionMetrics.get(700005).getSamples().size());
+    }
+
+    @Test
+    void testNewCodeListener() {
+        ServiceException.of(700006, "x");
+        List<Integer> codes = new ArrayList<>();
+        List<Integer> others = new ArrayList<>();
+        Consumer<CodeExceptionMetrics.CodeStats> listener = stats -> codes.add(stats.getCode());
+        Consumer<CodeExceptionMetrics.CodeStats> other = stats -> others.add(stats.getCode());
+        CodeExceptionMetrics.addNewCodeListener(listener);
+        CodeExceptionMetrics.addNewCodeListener(other);
+        assertEquals(List.of(700006), codes);
+        ServiceException.of(700007, "y");
+        ServiceException.of(700007, "y");
+        assertEquals(List.of(700006, 700007), codes);
+        assertEquals(List.of(700006, 700007), others);
+
+        // 移除一个回调不影响其他回调
+        CodeExceptionMetrics.removeNewCodeListener(listener);
+        ServiceException.of(700008, "z");
+        assertEquals(List.of(700006, 700007), codes);
+        assertEquals(List.of(700006, 700007, 700008), others);
+        CodeExceptionMetrics.removeNewCodeListener(other);
+    }
+}
@@ -0,0 +1,125 @@
+package com.opsdevkit.autoconfigure.core.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorMsgRegistryTest {
+
+    private static final List<String> LOCATIONS = List.of(
+            "classpath:error-msg/messages.properties",
+            "classpath:error-msg/messages_en.yml",
+            "classpath:error-msg/messages_en_US.yml");
+
+    @AfterEach
+    void tearDown() {
+        CodeErrorMsgException.setErrorMsg(null);
+    }
+
+    @Test
+    void testLocaleFallback() {
+        ErrorMsgRegistry registry = ErrorMsgRegistry.of(LOCATIONS);
+        assertEquals("JSON解析失败", registry.get(100001));
+        assertEquals("JSON parse error", registry.get(100001, Locale.ENGLISH));
+        assertEquals("JSON parse error", registry.get(100001, Locale.UK));
+        assertEquals("JSON parse error (US)", registry.get(100001, Locale.US));
+        // 区域内未配置的错误码回退到默认消息
+        assertEquals("默认消息", registry.get(100002, Locale.US));
+        assertEquals("JSON解析失败", registry.get(100001, Locale.CHINA));
+        assertNull(registry.get(200001, Locale.ENGLISH));
+        assertEquals("Out of stock", registry.get(200001, Locale.US));
+        assertEquals(2, registry.getLocales().size());
+    }
+
+    @Test
+    void testInstall() {
+        ErrorMsgRegistry registry = ErrorMsgRegistry.of(LOCATIONS, "unknown").install();
+        registry.setLocaleResolver(() -> Locale.US);
+        assertEquals("Out of stock", ServiceException.of(200001).getMessage());
+        assertEquals("unknown", ServiceException.of(300001).getMessage());
+        assertEquals("unknown", registry.getErrorMsg(null));
+    }
+
+    @Test
+    void testInvalidResource() {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> ErrorMsgRegistry.of(List.of("classpath:error-msg/missing.properties")));
+        assertNotNull(exception.getCause());
+    }
+
+    @Test
+    void testReload(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("messages.properties");
+        Files.writeString(file, "1=old\n", StandardCharsets.UTF_8);
+        ErrorMsgRegistry registry = ErrorMsgRegistry.of(List.of(file.toString()));
+        assertEquals("old", registry.get(1));
+
+        Files.writeString(file, "1=reloaded\n", StandardCharsets.UTF_8);
+        registry.reload();
+        assertEquals("reloaded", registry.get(1));
+
+        // 加载失败时保留原映射表
+        Files.writeString(file, "x=invalid\n", StandardCharsets.UTF_8);
+        assertThrows(ServiceException.class, registry::reload);
+        assertEquals("reloaded", registry.get(1));
+    }
+
+    @Test
+    void testWatch(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("messages.properties");
+        Files.writeString(file, "1=old\n", StandardCharsets.UTF_8);
+        try (ErrorMsgRegistry registry = ErrorMsgRegistry.of(List.of(file.toString())).watch()) {
+            assertEquals("old", registry.get(1));
+            Path staged = dir.resolve("staged.tmp");
+            Files.writeString(staged, "1=watched\n", StandardCharsets.UTF_8);
+            Files.move(staged, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long deadline = System.currentTimeMillis() + 30_000;
+            while (!"watched".equals(registry.get(1)) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals("watched", registry.get(1));
+        }
+    }
+
+    @Test
+    void testWatchReloadsWhileFileKeepsChanging(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("messages.properties");
+        Files.writeString(file, "1=old\n", StandardCharsets.UTF_8);
+        try (ErrorMsgRegistry registry = ErrorMsgRegistry.of(List.of(file.toString())).watch()) {
+            // 持续写入时事件间隔小于平静时间，等待到达上限后仍应重新加载
+            long deadline = System.currentTimeMillis() + 20_000;
+            int round = 0;
+            while ("old".equals(registry.get(1)) && System.currentTimeMillis() < deadline) {
+                Files.writeString(file, "1=busy" + round++ + "\n", StandardCharsets.UTF_8);
+                Thread.sleep(50);
+            }
+            assertTrue(registry.get(1).startsWith("busy"));
+        }
+    }
+
+    @Test
+    void testIntStringMap() {
+        Map<Integer, String> entries = new HashMap<>();
+        for (int i = -500; i < 500; i++) {
+            entries.put(i * 65536, "v" + i);
+        }
+        IntStringMap map = new IntStringMap(entries);
+        assertEquals(1000, map.size());
+        for (int i = -500; i < 500; i++) {
+            assertEquals("v" + i, map.get(i * 65536));
+        }
+        assertNull(map.get(1));
+        assertNull(IntStringMap.EMPTY.get(0));
+    }
+}
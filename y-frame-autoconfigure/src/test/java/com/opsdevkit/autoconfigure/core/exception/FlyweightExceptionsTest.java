@@ -0,0 +1,75 @@
+package com.opsdevkit.autoconfigure.core.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlyweightExceptionsTest {
+
+    @AfterEach
+    void tearDown() {
+        FlyweightExceptions.clear();
+        CodeErrorMsgException.setErrorMsg(null);
+    }
+
+    @Test
+    void testSharedInstance() {
+        FlyweightExceptions.register(List.of(429, 404));
+        ServiceException first = ServiceException.of(429);
+        assertSame(first, ServiceException.of(429));
+        assertSame(first, FlyweightExceptions.get(429));
+        assertEquals(429, first.getCode());
+        assertEquals(0, first.getStackTrace().length);
+        assertNotSame(ServiceException.of(500), ServiceException.of(500));
+        assertFalse(FlyweightExceptions.contains(null));
+
+        FlyweightExceptions.unregister(List.of(429));
+        assertNotSame(ServiceException.of(429), ServiceException.of(429));
+        assertTrue(FlyweightExceptions.contains(404));
+    }
+
+    @Test
+    void testSharedInstanceImmutable() {
+        FlyweightExceptions.register(List.of(429));
+        ServiceException shared = ServiceException.of(429);
+        shared.addSuppressed(new IllegalStateException());
+        assertEquals(0, shared.getSuppressed().length);
+        assertThrows(IllegalStateException.class, () -> shared.initCause(new RuntimeException()));
+        assertNull(shared.getCause());
+        shared.setStackTrace(new StackTraceElement[]{new StackTraceElement("A", "b", "A.java", 1)});
+        assertEquals(0, shared.getStackTrace().length);
+    }
+
+    @Test
+    void testSharedMessageFollowsLocaleAndReload(@TempDir Path dir) throws Exception {
+        Path root = dir.resolve("messages.properties");
+        Files.writeString(root, "429=busy\n", StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("messages_en.properties"), "429=Too many requests\n", StandardCharsets.UTF_8);
+        AtomicReference<Locale> locale = new AtomicReference<>(Locale.ENGLISH);
+        try (ErrorMsgRegistry registry = ErrorMsgRegistry.of(List.of(root.toString(),
+                dir.resolve("messages_en.properties").toString())).install()) {
+            registry.setLocaleResolver(locale::get);
+            FlyweightExceptions.register(List.of(429));
+            ServiceException shared = ServiceException.of(429);
+            assertEquals("Too many requests", shared.getMessage());
+            locale.set(Locale.CHINESE);
+            assertSame(shared, ServiceException.of(429));
+            assertEquals("busy", shared.getMessage());
+
+            Files.writeString(root, "429=reloaded\n", StandardCharsets.UTF_8);
+            registry.reload();
+            assertEquals("reloaded", shared.getMessage());
+            locale.set(Locale.ENGLISH);
+            assertEquals("Too many requests", shared.getMessage());
+        }
+    }
+}
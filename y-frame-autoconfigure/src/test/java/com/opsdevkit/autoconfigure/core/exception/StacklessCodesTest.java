@@ -0,0 +1,58 @@
+package com.opsdevkit.autoconfigure.core.exception;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StacklessCodesTest {
+
+    @AfterEach
+    void tearDown() {
+        StacklessCodes.clear();
+    }
+
+    @Test
+    void testRanges() {
+        StacklessCodes.setRanges(List.of("200000-299999", " 404 ", "300000-300010"));
+        assertTrue(StacklessCodes.contains(200000));
+        assertTrue(StacklessCodes.contains(299999));
+        assertTrue(StacklessCodes.contains(300005));
+        assertTrue(StacklessCodes.contains(404));
+        assertFalse(StacklessCodes.contains(405));
+        assertFalse(StacklessCodes.contains(300011));
+        assertFalse(StacklessCodes.contains(null));
+
+        StacklessCodes.add(405, 410);
+        assertTrue(StacklessCodes.contains(407));
+        assertTrue(StacklessCodes.contains(404));
+    }
+
+    @Test
+    void testInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> StacklessCodes.setRanges(List.of("abc")));
+        assertThrows(IllegalArgumentException.class, () -> StacklessCodes.setRanges(List.of("10-1")));
+        assertThrows(IllegalArgumentException.class, () -> StacklessCodes.add(10, 1));
+    }
+
+    @Test
+    void testLightweightException() {
+        ServiceException exception = ServiceException.lightweight(200001, "库存不足");
+        assertEquals(0, exception.getStackTrace().length);
+        exception.addSuppressed(new IllegalStateException());
+        assertEquals(0, exception.getSuppressed().length);
+        assertEquals("库存不足", exception.getMessage());
+        assertEquals(200001, exception.getCode());
+    }
+
+    @Test
+    void testFactoryUsesConfiguredRanges() {
+        StacklessCodes.setRanges(List.of("200000-299999"));
+        assertEquals(0, ServiceException.of(200001, "msg").getStackTrace().length);
+        assertTrue(ServiceException.of(100001, "msg").getStackTrace().length > 0);
+        // 带有异常原因的故障始终保留栈轨迹
+        assertTrue(ServiceException.of(200001, "msg", new IllegalStateException()).getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,125 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactMapTest {
+
+    private static final String JSON = "{\"id\":1,\"big\":12345678901,\"huge\":123456789012345678901234567890,"
+            + "\"price\":1.5,\"ok\":true,\"name\":\"a\",\"none\":null,\"tags\":[\"x\",1],\"nested\":{\"k\":\"v\"}}";
+
+    @Test
+    void testEqualsFromMap() {
+        CompactMap compact = JacksonUtils.fromMapCompact(JSON);
+        Map<String, Object> map = JacksonUtils.fromMap(JSON);
+        assertEquals(map, compact);
+        assertEquals(compact, map);
+        assertEquals(map.hashCode(), compact.hashCode());
+        assertEquals(List.copyOf(map.keySet()), List.copyOf(compact.keySet()));
+        assertEquals(Integer.class, compact.get("id").getClass());
+        assertEquals(Long.class, compact.get("big").getClass());
+        assertEquals(BigInteger.class, compact.get("huge").getClass());
+        assertTrue(compact.containsKey("none"));
+        assertNull(compact.get("none"));
+        assertInstanceOf(CompactMap.class, compact.get("nested"));
+    }
+
+    @Test
+    void testPrimitiveAccessors() {
+        CompactMap compact = JacksonUtils.fromMapCompact(JSON);
+        assertEquals(1, compact.getInt("id", -1));
+        assertEquals(12345678901L, compact.getLong("big", -1));
+        assertEquals(1, compact.getLong("id", -1));
+        assertEquals(1.5, compact.getDouble("price", 0));
+        assertEquals(-1, compact.getInt("name", -1));
+        assertEquals(-1, compact.getInt("missing", -1));
+    }
+
+    @Test
+    void testSharedShapeAndReadOnly() {
+        List<Map<String, Object>> list = JacksonUtils.fromListMapCompact(
+                "[{\"a\":1,\"b\":\"x\"},{\"a\":2,\"b\":\"y\"},{\"a\":1,\"a\":3},null]");
+        assertEquals(4, list.size());
+        assertEquals(Map.of("a", 3), list.get(2));
+        assertNull(list.get(3));
+        int shapes = CompactMap.shapeCount();
+        JacksonUtils.fromListMapCompact("[{\"a\":5,\"b\":\"z\"}]");
+        assertEquals(shapes, CompactMap.shapeCount());
+
+        Map<String, Object> map = list.get(0);
+        assertThrows(UnsupportedOperationException.class, () -> map.put("c", 1));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(map));
+        List<?> tags = (List<?>) JacksonUtils.fromMapCompact(JSON).get("tags");
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(0));
+    }
+
+    @Test
+    void testIntegerFeaturesMatchFromMap() {
+        ObjectMapper previous = JacksonUtils.getObjectMapper();
+        try {
+            JacksonUtils.setObjectMapper(JacksonUtils.createDefaultObjectMapper().enable(DeserializationFeature.USE_LONG_FOR_INTS));
+            String json = "{\"id\":1,\"big\":12345678901,\"tags\":[\"x\",1]}";
+            CompactMap compact = JacksonUtils.fromMapCompact(json);
+            assertEquals(JacksonUtils.fromMap(json), compact);
+            assertEquals(Long.class, compact.get("id").getClass());
+            assertEquals(Long.class, ((List<?>) compact.get("tags")).get(1).getClass());
+            // 与fromMap一致，超出long范围的整数读取失败
+            assertThrows(ServiceException.class, () -> JacksonUtils.fromMap(JSON));
+            assertThrows(ServiceException.class, () -> JacksonUtils.fromMapCompact(JSON));
+
+            JacksonUtils.setObjectMapper(JacksonUtils.createDefaultObjectMapper().enable(DeserializationFeature.USE_BIG_INTEGER_FOR_INTS));
+            compact = JacksonUtils.fromMapCompact(JSON);
+            assertEquals(JacksonUtils.fromMap(JSON), compact);
+            assertEquals(BigInteger.class, compact.get("id").getClass());
+            assertEquals(BigInteger.class, compact.get("big").getClass());
+        } finally {
+            JacksonUtils.setObjectMapper(previous);
+        }
+    }
+
+    @Test
+    void testManyKeys() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 40; i++) {
+            json.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":").append(i);
+        }
+        CompactMap compact = JacksonUtils.fromMapCompact(json.append('}').toString());
+        assertEquals(40, compact.size());
+        assertEquals(39, compact.get("k39"));
+        assertFalse(compact.containsKey("k40"));
+    }
+
+    @Test
+    void testDuplicateKeysBeyondLinearScan() {
+        StringBuilder json = new StringBuilder("{");
+        for (int i = 0; i < 40; i++) {
+            json.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":").append(i);
+        }
+        // 重复的键分别落在线性查找与哈希索引的范围内，以最后一次出现的值为准
+        json.append(",\"k3\":\"x\",\"k30\":null,\"k8\":true}");
+        CompactMap compact = JacksonUtils.fromMapCompact(json.toString());
+        assertEquals(40, compact.size());
+        assertEquals("x", compact.get("k3"));
+        assertNull(compact.get("k30"));
+        assertTrue(compact.containsKey("k30"));
+        assertEquals(true, compact.get("k8"));
+        assertEquals(JacksonUtils.fromMap(json.toString()), compact);
+    }
+
+    @Test
+    void testFromObjectAndInvalid() {
+        assertEquals(Map.of("id", 1), JacksonUtils.fromMapCompact(Map.of("id", 1L)));
+        assertNull(JacksonUtils.fromMapCompact("null"));
+        ServiceException exception = assertThrows(ServiceException.class, () -> JacksonUtils.fromMapCompact("[1]"));
+        assertEquals(100001, exception.getCode());
+    }
+}
@@ -0,0 +1,110 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonBulkTest {
+
+    static class Item {
+        public int id;
+        public String name;
+    }
+
+    @AfterEach
+    void tearDown() {
+        JacksonUtils.setBulk(null);
+    }
+
+    private static List<String> jsonItems(int count) {
+        List<String> contents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contents.add("{\"id\":" + i + ",\"name\":\"商品-" + i + "\"}");
+        }
+        return contents;
+    }
+
+    @Test
+    void testParallelKeepsOrder() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        Set<String> threads = Collections.synchronizedSet(new HashSet<>());
+        try {
+            JacksonBulk bulk = JacksonBulk.builder()
+                    .executor(command -> executor.execute(() -> {
+                        threads.add(Thread.currentThread().getName());
+                        command.run();
+                    }))
+                    .threshold(8).parallelism(4).build();
+            List<String> contents = jsonItems(1000);
+            JacksonBulk.Result<Item> items = bulk.fromJsonAll(contents, Item.class);
+            assertFalse(items.hasFailures());
+            for (int i = 0; i < contents.size(); i++) {
+                assertEquals(i, items.getValues().get(i).id);
+            }
+            assertFalse(threads.isEmpty());
+
+            JacksonBulk.Result<String> json = bulk.toJsonAll(items.orElseThrow());
+            assertEquals(contents, json.getValues());
+            assertArrayEquals(contents.get(7).getBytes(StandardCharsets.UTF_8),
+                    bulk.toJsonBytesAll(items.getValues()).getValues().get(7));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFailuresCollected() {
+        List<Object> contents = new ArrayList<>(jsonItems(50));
+        contents.set(3, "{\"id\":");
+        contents.set(40, "[1]");
+        contents.set(41, new byte[]{'{', '}'});
+        JacksonBulk bulk = JacksonBulk.builder().threshold(8).parallelism(4).build();
+        JacksonBulk.Result<Item> result = bulk.fromJsonAll(contents, Item.class);
+        assertTrue(result.hasFailures());
+        assertEquals(List.of(3, 40), List.copyOf(result.getFailures().keySet()));
+        assertNull(result.getValues().get(3));
+        assertEquals(0, result.getValues().get(41).id);
+        assertEquals(49, result.getValues().get(49).id);
+        ServiceException e = assertThrows(ServiceException.class, result::orElseThrow);
+        assertSame(result.getFailures().get(3), e);
+    }
+
+    @Test
+    void testSequentialBelowThreshold() {
+        AtomicInteger submitted = new AtomicInteger();
+        JacksonBulk bulk = JacksonBulk.builder()
+                .executor(command -> {
+                    submitted.incrementAndGet();
+                    command.run();
+                })
+                .threshold(100).parallelism(4).build();
+        assertEquals(99, bulk.fromJsonAll(jsonItems(99), Item.class).orElseThrow().size());
+        assertEquals(0, submitted.get());
+        bulk.fromJsonAll(jsonItems(100), Item.class);
+        assertEquals(3, submitted.get());
+    }
+
+    @Test
+    void testJacksonUtilsDelegates() {
+        assertSame(JacksonBulk.defaults(), JacksonUtils.getBulk());
+        List<Object> values = new ArrayList<>();
+        values.add(1);
+        values.add(null);
+        values.add("a");
+        assertEquals(List.of("1", "null", "\"a\""), JacksonUtils.toJsonAll(values).orElseThrow());
+        assertEquals(5, JacksonUtils.fromJsonAll(List.of("{\"id\":5}"), Item.class).orElseThrow().get(0).id);
+        assertThrows(IllegalArgumentException.class, () -> JacksonBulk.builder().threshold(0));
+    }
+}
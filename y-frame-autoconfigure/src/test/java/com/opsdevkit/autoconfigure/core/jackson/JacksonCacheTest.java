@@ -0,0 +1,113 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        JacksonUtils.setCacheMaximumSize(JacksonCache.DEFAULT_MAXIMUM_SIZE);
+        JacksonUtils.setObjectMapper(null);
+    }
+
+    @Test
+    void testReaderIsReused() {
+        JacksonCache cache = new JacksonCache(new ObjectMapper(), 16);
+        JavaType type = cache.listType(String.class);
+        ObjectReader reader = cache.reader(type);
+        assertSame(reader, cache.reader(cache.listType(String.class)));
+        assertSame(type, cache.type(new TypeReference<List<String>>() {
+        }));
+        JacksonCache.Stats stats = cache.getStats();
+        assertTrue(stats.hitCount() >= 2);
+        assertTrue(stats.missCount() >= 1);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        JacksonCache cache = new JacksonCache(new ObjectMapper(), 2);
+        cache.type(String.class);
+        cache.type(Integer.class);
+        // 访问String使其成为最近使用的条目
+        cache.type(String.class);
+        cache.type(Long.class);
+        JacksonCache.Stats stats = cache.getStats();
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.evictionCount());
+        long misses = stats.missCount();
+        cache.type(String.class);
+        assertEquals(misses, cache.getStats().missCount());
+        cache.type(Integer.class);
+        assertEquals(misses + 1, cache.getStats().missCount());
+    }
+
+    @Test
+    void testClassSharesEntryWithJavaType() {
+        JacksonCache cache = new JacksonCache(new ObjectMapper(), 16);
+        JavaType type = cache.type(String.class);
+        cache.writer(type);
+        assertEquals(1, cache.getStats().size());
+        long hits = cache.getStats().hitCount();
+        cache.writerForValue("a");
+        assertEquals(hits + 1, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().size());
+    }
+
+    @Test
+    void testEvictsInBatches() {
+        Class<?>[] classes = {String.class, Integer.class, Long.class, Short.class, Byte.class, Double.class,
+                Float.class, Boolean.class, Character.class, Object.class, List.class, Map.class};
+        JacksonCache cache = new JacksonCache(new ObjectMapper(), 10);
+        for (Class<?> clazz : classes) {
+            cache.type(clazz);
+            // 保持String为最近使用的条目
+            cache.type(String.class);
+        }
+        JacksonCache.Stats stats = cache.getStats();
+        // 第11个条目触发一次批量淘汰，降到最大值的九成
+        assertEquals(2, stats.evictionCount());
+        assertEquals(10, stats.size());
+        long misses = stats.missCount();
+        cache.type(String.class);
+        cache.type(Map.class);
+        assertEquals(misses, cache.getStats().missCount());
+    }
+
+    @Test
+    void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new JacksonCache(new ObjectMapper(), 0));
+        assertThrows(IllegalArgumentException.class, () -> JacksonUtils.setCacheMaximumSize(-1));
+    }
+
+    @Test
+    void testUtilsRoutesThroughCache() {
+        JacksonUtils.setObjectMapper(new ObjectMapper());
+        JacksonCache cache = JacksonUtils.getCache();
+        JacksonUtils.fromMap("{\"a\":1}", String.class, Integer.class);
+        long misses = cache.getStats().missCount();
+        Map<String, Integer> map = JacksonUtils.fromMap("{\"a\":2}", String.class, Integer.class);
+        assertEquals(2, map.get("a"));
+        assertEquals(misses, cache.getStats().missCount());
+        assertSame(cache, JacksonUtils.getCache());
+    }
+
+    @Test
+    void testSetObjectMapperInvalidatesCache() {
+        JacksonCache before = JacksonUtils.getCache();
+        ObjectMapper mapper = new ObjectMapper();
+        JacksonUtils.setObjectMapper(mapper);
+        JacksonCache after = JacksonUtils.getCache();
+        assertNotSame(before, after);
+        assertSame(mapper, after.getObjectMapper());
+    }
+}
@@ -0,0 +1,128 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class JacksonCodecTest {
+
+    static class Item {
+        public Long id;
+        public String name;
+        public BigDecimal price;
+        public List<String> tags;
+    }
+
+    private static Item item(long id) {
+        Item item = new Item();
+        item.id = id;
+        item.name = "商品-" + id;
+        item.price = new BigDecimal("19.99");
+        item.tags = List.of("a", "b");
+        return item;
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {JacksonCodec.JSON, JacksonCodec.SMILE, JacksonCodec.CBOR, JacksonCodec.MSGPACK})
+    void testRoundTrip(String name) {
+        // msgpack仅在默认字符集为UTF-8时自动注册
+        assumeTrue(JacksonCodec.isAvailable(name));
+        JacksonCodec codec = JacksonCodec.of(name);
+        byte[] bytes = codec.encode(item(1));
+        Item decoded = codec.decode(bytes, Item.class);
+        assertEquals("商品-1", decoded.name);
+        assertEquals(0, new BigDecimal("19.99").compareTo(decoded.price));
+
+        List<Item> list = codec.decodeList(codec.encode(List.of(item(2), item(3))), Item.class);
+        assertEquals(3L, list.get(1).id);
+        List<Item> typed = codec.decode(codec.encode(List.of(item(4))), new TypeReference<>() {
+        });
+        assertEquals(4L, typed.get(0).id);
+
+        Map<String, Object> map = codec.decodeMap(codec.encode(Map.of("k", 1)));
+        assertEquals(1, ((Number) map.get("k")).intValue());
+        assertEquals(Map.of("k", 1L), codec.decodeMap(codec.encode(Map.of("k", 1)), String.class, Long.class));
+        assertEquals(1, codec.decodeListMap(codec.encode(List.of(Map.of("a", "b")))).size());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(item(5), out);
+        assertEquals(5L, codec.decode(new ByteArrayInputStream(out.toByteArray()), Item.class).id);
+    }
+
+    @Test
+    void testJsonMatchesJacksonUtils() {
+        assertEquals(JacksonUtils.toJson(item(1)), new String(JacksonCodec.json().encode(item(1)), StandardCharsets.UTF_8));
+        assertSame(JacksonUtils.getCache(), JacksonCodec.json().getCache());
+        assertTrue(JacksonCodec.names().containsAll(Set.of("json", "smile", "cbor")));
+    }
+
+    @Test
+    void testBinaryCodecFollowsObjectMapper() {
+        JacksonCodec smile = JacksonCodec.smile();
+        JacksonCache before = smile.getCache();
+        assertSame(before, smile.getCache());
+        // 继承NON_NULL配置
+        assertEquals(Map.of(), smile.decodeMap(smile.encode(new Item())));
+        try {
+            JacksonUtils.setObjectMapper(new ObjectMapper());
+            assertNotSame(before, smile.getCache());
+            assertTrue(smile.decodeMap(smile.encode(new Item())).containsKey("name"));
+        } finally {
+            JacksonUtils.setObjectMapper(null);
+        }
+    }
+
+    @Test
+    void testBinaryCodecKeepsConstraintsAndRecyclerPool() {
+        ObjectMapper mapper = new ObjectMapper();
+        JacksonUtils.applyReadConstraints(mapper, null, 8, 1000, null);
+        JacksonRecyclerPools.apply(mapper, JacksonRecyclerPools.Strategy.SHARED);
+        try {
+            JacksonUtils.setObjectMapper(mapper);
+            JsonFactory factory = JacksonCodec.cbor().getCache().getObjectMapper().getFactory();
+            assertEquals(8, factory.streamReadConstraints().getMaxNestingDepth());
+            assertEquals(1000, factory.streamReadConstraints().getMaxStringLength());
+            assertSame(mapper.getFactory()._getRecyclerPool(), factory._getRecyclerPool());
+            ServiceException exception = assertThrows(ServiceException.class, () -> JacksonCodec.cbor()
+                    .decodeMap(JacksonCodec.cbor().encode(Map.of("a", List.of(List.of(List.of(List.of(List.of(
+                            List.of(List.of(List.of(List.of(1)))))))))))));
+            assertEquals(JacksonUtils.JSON_CONSTRAINT_ERROR, exception.getCode());
+        } finally {
+            JacksonUtils.setObjectMapper(null);
+        }
+    }
+
+    @Test
+    void testRegister() {
+        JacksonCodec codec = JacksonCodec.register("test-msgpack", MessagePackFactory::new);
+        assertSame(codec, JacksonCodec.of("test-msgpack"));
+        Item item = item(6);
+        item.name = "item-6";
+        assertEquals("item-6", codec.decode(codec.encode(item), Item.class).name);
+    }
+
+    @Test
+    void testErrors() {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> JacksonCodec.cbor().decode(new byte[]{(byte) 0xff, 0x01}, Item.class));
+        assertEquals(100001, exception.getCode());
+        assertThrows(IllegalArgumentException.class, () -> JacksonCodec.of("unknown"));
+        assertFalse(JacksonCodec.isAvailable("unknown"));
+    }
+}
@@ -0,0 +1,191 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonMetricsTest {
+
+    static class Item {
+        public int id;
+    }
+
+    record Call(JacksonMetrics.Operation operation, String type, long bytes) {
+    }
+
+    private final List<Call> calls = new CopyOnWriteArrayList<>();
+
+    private final List<JacksonMetrics.Recorder> recorders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        recorders.forEach(JacksonMetrics::removeRecorder);
+    }
+
+    private void addRecorder(JacksonMetrics.Recorder recorder) {
+        recorders.add(recorder);
+        JacksonMetrics.addRecorder(recorder);
+    }
+
+    @Test
+    void testRecordedPerType() {
+        assertFalse(JacksonMetrics.isEnabled());
+        addRecorder((operation, type, elapsedNanos, bytes) -> {
+            assertTrue(elapsedNanos >= 0);
+            calls.add(new Call(operation, type.getRawClass().getSimpleName(), bytes));
+        });
+        assertTrue(JacksonMetrics.isEnabled());
+
+        Item item = JacksonUtils.fromJson("{\"id\":1}", Item.class);
+        JacksonUtils.fromJson("{\"id\":1}".getBytes(StandardCharsets.UTF_8), Item.class);
+        JacksonUtils.fromJson(Map.of("id", 1), Item.class);
+        JacksonUtils.fromList("[]", Item.class);
+        JacksonUtils.toJson(item);
+        JacksonUtils.toJsonBytes(new int[]{1});
+        assertThrows(ServiceException.class, () -> JacksonUtils.fromJson("{", Item.class));
+
+        assertEquals(List.of(
+                new Call(JacksonMetrics.Operation.READ, "Item", 8),
+                new Call(JacksonMetrics.Operation.READ, "Item", 8),
+                new Call(JacksonMetrics.Operation.READ, "Item", -1),
+                new Call(JacksonMetrics.Operation.READ, "List", 2),
+                new Call(JacksonMetrics.Operation.WRITE, "Item", 8),
+                new Call(JacksonMetrics.Operation.WRITE, "int[]", 3)), calls);
+    }
+
+    @Test
+    void testPayloadInUtf8Bytes() {
+        addRecorder((operation, type, elapsedNanos, bytes) -> calls.add(new Call(operation, "", bytes)));
+        String json = JacksonUtils.toJson("商品\uD83D\uDE00");
+        JacksonUtils.fromJson(json, String.class);
+        long expected = json.getBytes(StandardCharsets.UTF_8).length;
+        assertEquals(List.of(new Call(JacksonMetrics.Operation.WRITE, "", expected),
+                new Call(JacksonMetrics.Operation.READ, "", expected)), calls);
+        assertEquals("a\uD800b".getBytes(StandardCharsets.UTF_8).length, JacksonMetrics.utf8Length("a\uD800b"));
+    }
+
+    @Test
+    void testAllEntryPointsRecorded(@TempDir Path dir) throws Exception {
+        addRecorder((operation, type, elapsedNanos, bytes) ->
+                calls.add(new Call(operation, type.getRawClass().getSimpleName(), bytes)));
+        Item item = new Item();
+        Path file = Files.writeString(dir.resolve("items.json"), "[{\"id\":1}]");
+
+        JacksonUtils.fromJson(file, Item[].class);
+        JacksonUtils.fromListParallel(file, Item.class);
+        JacksonUtils.writeTo(item, new ByteArrayOutputStream());
+        JacksonUtils.writeTo(item, Channels.newChannel(new ByteArrayOutputStream()));
+        JacksonUtils.fromMapCompact("{\"id\":1}");
+        JacksonUtils.fromListMapCompact("[]");
+        JacksonUtils.deepCopy(item);
+        JacksonBulk bulk = JacksonBulk.builder().threshold(100).build();
+        bulk.toJsonAll(List.of(item));
+        bulk.toJsonBytesAll(List.of(item));
+        bulk.fromJsonAll(List.of("{\"id\":1}"), Item.class);
+        JacksonProfile profile = JacksonUtils.registerProfile("metrics", new ObjectMapper());
+        try {
+            profile.fromJson("{\"id\":1}", Item.class);
+            profile.deepCopy(item, profile.getCache().type(Item.class));
+            profile.toJson(item);
+            profile.toJsonBytes(item);
+            profile.writeTo(item, new ByteArrayOutputStream());
+        } finally {
+            JacksonUtils.removeProfile(profile);
+        }
+
+        JacksonMetrics.Operation read = JacksonMetrics.Operation.READ;
+        JacksonMetrics.Operation write = JacksonMetrics.Operation.WRITE;
+        assertEquals(List.of(
+                new Call(read, "Item[]", 10),
+                new Call(read, "List", 10),
+                new Call(write, "Item", -1),
+                new Call(write, "Item", -1),
+                new Call(read, "CompactMap", 8),
+                new Call(read, "List", 2),
+                new Call(read, "Item", -1),
+                new Call(write, "Item", 8),
+                new Call(write, "Item", 8),
+                new Call(read, "Item", 8),
+                new Call(read, "Item", 8),
+                new Call(read, "Item", -1),
+                new Call(write, "Item", 8),
+                new Call(write, "Item", 8),
+                new Call(write, "Item", -1)), calls);
+    }
+
+    @Test
+    void testStreamingAndPatchEntryPointsRecorded(@TempDir Path dir) throws Exception {
+        addRecorder((operation, type, elapsedNanos, bytes) ->
+                calls.add(new Call(operation, type.getRawClass().getSimpleName(), bytes)));
+        Path file = Files.writeString(dir.resolve("items.json"), "[{\"id\":1}, {\"id\":2}]");
+
+        JacksonUtils.extract("{\"a\":{\"id\":1}}", "/a", Item.class);
+        JacksonUtils.extractAll("{\"a\":1}", List.of("/a"));
+        JacksonUtils.update(new Item(), "{\"id\":1}");
+        JacksonUtils.mergePatch(new Item(), "{\"id\":1}");
+        JacksonUtils.diff(new Item(), new Item());
+        JacksonUtils.forEachList(file, Item.class, value -> {
+        });
+        try (JsonChunkDecoder<Item> decoder = JacksonUtils.listDecoder(Item.class)) {
+            decoder.feed("[{\"id\":1},".getBytes(StandardCharsets.UTF_8));
+            decoder.feed(" {\"id\":".getBytes(StandardCharsets.UTF_8));
+            decoder.feed("2}]".getBytes(StandardCharsets.UTF_8));
+        }
+        JacksonUtils.streamList("[{\"id\":1}]", Item.class).count();
+
+        JacksonMetrics.Operation read = JacksonMetrics.Operation.READ;
+        JacksonMetrics.Operation write = JacksonMetrics.Operation.WRITE;
+        assertEquals(List.of(
+                new Call(read, "Item", 14),
+                new Call(read, "Map", 7),
+                new Call(read, "Item", 8),
+                new Call(read, "Item", 8),
+                new Call(write, "Item", 2),
+                new Call(read, "Item", 8),
+                new Call(read, "Item", 8),
+                new Call(read, "Item", -1),
+                new Call(read, "Item", -1),
+                new Call(read, "Item", -1)), calls);
+    }
+
+    @Test
+    void testMultipleRecorders() {
+        List<Call> other = new CopyOnWriteArrayList<>();
+        JacksonMetrics.Recorder first = (operation, type, elapsedNanos, bytes) -> calls.add(new Call(operation, "", bytes));
+        JacksonMetrics.Recorder second = (operation, type, elapsedNanos, bytes) -> other.add(new Call(operation, "", bytes));
+        addRecorder(first);
+        addRecorder(second);
+        JacksonUtils.toJson(1);
+        JacksonMetrics.removeRecorder(first);
+        assertTrue(JacksonMetrics.isEnabled());
+        JacksonUtils.toJson(2);
+        JacksonMetrics.removeRecorder(second);
+        assertFalse(JacksonMetrics.isEnabled());
+        JacksonUtils.toJson(3);
+
+        assertEquals(List.of(new Call(JacksonMetrics.Operation.WRITE, "", 1)), calls);
+        assertEquals(List.of(new Call(JacksonMetrics.Operation.WRITE, "", 1),
+                new Call(JacksonMetrics.Operation.WRITE, "", 1)), other);
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertEquals(JacksonMetrics.DISABLED, JacksonMetrics.start());
+        JacksonUtils.toJson(new Item());
+        assertTrue(calls.isEmpty());
+    }
+}
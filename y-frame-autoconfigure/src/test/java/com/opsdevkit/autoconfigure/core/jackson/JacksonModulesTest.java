@@ -0,0 +1,42 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonModulesTest {
+
+    static class Bean {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void testRegisterBlackbird() throws Exception {
+        assertTrue(JacksonModules.isBlackbirdAvailable());
+        ObjectMapper mapper = JacksonUtils.createDefaultObjectMapper();
+        assertTrue(JacksonModules.registerBlackbird(mapper));
+        assertTrue(mapper.getRegisteredModuleIds().stream().anyMatch(id -> id.toString().contains("Blackbird")));
+        // 重复注册被忽略
+        assertTrue(JacksonModules.registerBlackbird(mapper));
+
+        Bean bean = mapper.readValue("{\"name\":\"a\"}", Bean.class);
+        assertEquals("a", bean.getName());
+        assertEquals("{\"name\":\"a\"}", mapper.writeValueAsString(bean));
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        assertFalse(JacksonModules.isBlackbirdEnabled());
+        ObjectMapper mapper = JacksonUtils.createDefaultObjectMapper();
+        assertTrue(mapper.getRegisteredModuleIds().isEmpty());
+    }
+}
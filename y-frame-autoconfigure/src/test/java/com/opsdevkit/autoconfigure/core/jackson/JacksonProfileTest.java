@@ -0,0 +1,81 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonProfileTest {
+
+    static class Item {
+        public Long itemId;
+        public String itemName;
+    }
+
+    @AfterEach
+    void tearDown() {
+        JacksonUtils.removeProfile("snake");
+        JacksonUtils.removeProfile("strict");
+    }
+
+    private static Item item() {
+        Item item = new Item();
+        item.itemId = 1L;
+        item.itemName = "a";
+        return item;
+    }
+
+    @Test
+    void testProfileIsolatedFromDefault() {
+        JacksonProfile snake = JacksonUtils.registerProfile("snake",
+                mapper -> mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE));
+        assertSame(snake, JacksonUtils.profile("snake"));
+        assertEquals("{\"item_id\":1,\"item_name\":\"a\"}", snake.toJson(item()));
+        // 基础配置（忽略null值）随副本保留
+        assertEquals("{}", snake.toJson(new Item()));
+        assertEquals("{\"itemId\":1,\"itemName\":\"a\"}", JacksonUtils.toJson(item()));
+        assertNotSame(JacksonUtils.getCache(), snake.getCache());
+
+        assertEquals("a", snake.fromJson("{\"item_name\":\"a\"}", Item.class).itemName);
+        assertEquals(1, snake.fromMap(item()).get("item_id"));
+        assertEquals(1L, snake.fromList(List.of(Map.of("item_id", 1)), Item.class).get(0).itemId);
+        assertEquals("a", snake.fromListMap(snake.toJsonBytes(List.of(item()))).get(0).get("item_name"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snake.writeTo(item(), out);
+        assertEquals(snake.toJson(item()), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCachesReused() {
+        JacksonProfile snake = JacksonUtils.registerProfile("snake",
+                mapper -> mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE));
+        snake.toJson(item());
+        long misses = snake.getCache().getStats().missCount();
+        snake.toJson(item());
+        assertEquals(misses, snake.getCache().getStats().missCount());
+    }
+
+    @Test
+    void testRegistry() {
+        JacksonProfile strict = JacksonUtils.registerProfile("strict",
+                JacksonUtils.createDefaultObjectMapper().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> strict.fromJson("{\"unknown\":1}", Item.class));
+        assertEquals(100001, exception.getCode());
+        assertTrue(JacksonUtils.getProfileNames().contains("strict"));
+
+        JacksonProfile replaced = JacksonUtils.registerProfile("strict", JacksonUtils.createDefaultObjectMapper());
+        assertFalse(JacksonUtils.removeProfile(strict));
+        assertTrue(JacksonUtils.removeProfile(replaced));
+        assertThrows(IllegalArgumentException.class, () -> JacksonUtils.profile("strict"));
+    }
+}
@@ -0,0 +1,94 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonRecyclerPoolsTest {
+
+    @Test
+    void testStripedPoolReuse() {
+        JacksonRecyclerPools.StripedPool pool = new JacksonRecyclerPools.StripedPool(1, 2);
+        BufferRecycler first = pool.acquireAndLinkPooled();
+        assertTrue(first.isLinkedWithPool());
+        first.releaseToPool();
+        assertEquals(1, pool.pooledCount());
+        assertSame(first, pool.acquireAndLinkPooled());
+        assertEquals(0, pool.pooledCount());
+
+        // 池满时丢弃归还的实例
+        List<BufferRecycler> recyclers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            recyclers.add(pool.acquirePooled());
+        }
+        recyclers.forEach(pool::releasePooled);
+        assertEquals(2, pool.pooledCount());
+        assertTrue(pool.clear());
+        assertEquals(0, pool.pooledCount());
+    }
+
+    @Test
+    void testStripedPoolAcrossThreads() throws Exception {
+        JacksonRecyclerPools.StripedPool pool = new JacksonRecyclerPools.StripedPool(4, 2);
+        BufferRecycler recycler = pool.acquirePooled();
+        pool.releasePooled(recycler);
+        // 其他线程的段为空时查找其余段
+        BufferRecycler[] acquired = new BufferRecycler[1];
+        Thread thread = new Thread(() -> acquired[0] = pool.acquirePooled());
+        thread.start();
+        thread.join();
+        assertSame(recycler, acquired[0]);
+    }
+
+    @Test
+    void testApply() throws Exception {
+        ObjectMapper mapper = JacksonRecyclerPools.apply(new ObjectMapper(), JacksonRecyclerPools.Strategy.STRIPED);
+        RecyclerPool<BufferRecycler> pool = mapper.getFactory()._getRecyclerPool();
+        assertSame(JacksonRecyclerPools.of(JacksonRecyclerPools.Strategy.STRIPED), pool);
+        assertSame(pool, mapper.copy().getFactory()._getRecyclerPool());
+        assertEquals("{\"a\":1}", mapper.writeValueAsString(Map.of("a", 1)));
+        assertTrue(pool.pooledCount() > 0);
+
+        assertSame(JsonRecyclerPools.threadLocalPool(), JacksonRecyclerPools.of(JacksonRecyclerPools.Strategy.THREAD_LOCAL));
+        assertSame(JsonRecyclerPools.sharedBoundedPool(), JacksonRecyclerPools.of(JacksonRecyclerPools.Strategy.SHARED));
+        assertNotSame(JacksonRecyclerPools.of(JacksonRecyclerPools.Strategy.SHARED), pool);
+
+        // 反序列化后还原为共享实例
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(pool);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(pool, in.readObject());
+        }
+    }
+
+    @Test
+    void testDefaultStrategy() {
+        assertEquals(JacksonRecyclerPools.Strategy.THREAD_LOCAL, JacksonRecyclerPools.defaultStrategy());
+        assertSame(JsonRecyclerPools.threadLocalPool(),
+                JacksonUtils.createDefaultObjectMapper().getFactory()._getRecyclerPool());
+        System.setProperty(JacksonRecyclerPools.STRATEGY_PROPERTY, "none");
+        try {
+            assertEquals(JacksonRecyclerPools.Strategy.NONE, JacksonRecyclerPools.defaultStrategy());
+            // 无法识别的值回退到默认策略，不影响JacksonUtils初始化
+            System.setProperty(JacksonRecyclerPools.STRATEGY_PROPERTY, "stripped");
+            assertEquals(JacksonRecyclerPools.Strategy.THREAD_LOCAL, JacksonRecyclerPools.defaultStrategy());
+            assertNotNull(JacksonUtils.createDefaultObjectMapper());
+        } finally {
+            System.clearProperty(JacksonRecyclerPools.STRATEGY_PROPERTY);
+        }
+    }
+}
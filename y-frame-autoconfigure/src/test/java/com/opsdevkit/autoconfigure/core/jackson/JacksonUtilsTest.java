@@ -0,0 +1,231 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonUtilsTest {
+
+    static class Item {
+        public Long id;
+        public String name;
+        public BigDecimal price;
+        public List<String> tags;
+
+        Item() {
+        }
+
+        Item(Long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Test
+    void testFromJsonString() {
+        Item item = JacksonUtils.fromJson("{\"id\":1,\"name\":\"a\",\"unknown\":true}", Item.class);
+        assertEquals(1L, item.id);
+        assertEquals("a", item.name);
+    }
+
+    @Test
+    void testFromJsonObjectWithoutStringRoundTrip() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", 2);
+        map.put("name", "b");
+        map.put("price", new BigDecimal("12.50"));
+        Item item = JacksonUtils.fromJson(map, Item.class);
+        assertEquals(2L, item.id);
+        assertEquals("b", item.name);
+        assertEquals(new BigDecimal("12.50"), item.price);
+    }
+
+    @Test
+    void testFromMapOfObject() {
+        Map<String, Object> map = JacksonUtils.fromMap(new Item(3L, "c"));
+        // 数值类型与JSON文本解析保持一致
+        assertEquals(3, map.get("id"));
+        assertEquals("c", map.get("name"));
+        // NON_NULL: null属性不输出
+        assertFalse(map.containsKey("price"));
+    }
+
+    @Test
+    void testFromMapNumberTypesMatchText() {
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("int", 1L);
+        source.put("long", Long.MAX_VALUE);
+        source.put("decimal", new BigDecimal("1.5"));
+        Map<String, Object> fromObject = JacksonUtils.fromMap(source);
+        Map<String, Object> fromText = JacksonUtils.fromMap(JacksonUtils.toJson(source));
+        assertEquals(fromText, fromObject);
+        assertEquals(Double.class, fromObject.get("decimal").getClass());
+    }
+
+    @Test
+    void testFromListOfObject() {
+        List<Map<String, Object>> source = List.of(Map.of("id", 1), Map.of("id", 2));
+        List<Item> items = JacksonUtils.fromList(source, Item.class);
+        assertEquals(2, items.size());
+        assertEquals(2L, items.get(1).id);
+
+        List<Map<String, Object>> maps = JacksonUtils.fromListMap(List.of(new Item(4L, "d")));
+        assertEquals("d", maps.get(0).get("name"));
+
+        List<Map<String, Long>> typed = JacksonUtils.fromListMap(source, String.class, Long.class);
+        assertEquals(1L, typed.get(0).get("id"));
+    }
+
+    @Test
+    void testFromJsonObjectInvalid() {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> JacksonUtils.fromJson(Map.of("id", "not-a-number"), Item.class));
+        assertEquals(100001, exception.getCode());
+        assertNotNull(exception.getCause());
+    }
+
+    @Test
+    void testFromJsonStringInvalid() {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> JacksonUtils.fromJson("{invalid", Item.class));
+        assertEquals(100001, exception.getCode());
+    }
+
+    @Test
+    void testDeepCopy() {
+        Item item = new Item(5L, "e");
+        item.tags = new ArrayList<>(List.of("x", "y"));
+        Item copy = JacksonUtils.deepCopy(item);
+        assertNotSame(item, copy);
+        assertNotSame(item.tags, copy.tags);
+        assertEquals(item.tags, copy.tags);
+        assertEquals(5L, copy.id);
+    }
+
+    @Test
+    void testDeepCopyWithTypeReference() {
+        List<Item> items = List.of(new Item(6L, "f"));
+        List<Item> copy = JacksonUtils.deepCopy(items, new TypeReference<>() {
+        });
+        assertEquals(Item.class, copy.get(0).getClass());
+        assertNotSame(items.get(0), copy.get(0));
+        assertNull(JacksonUtils.deepCopy(null));
+    }
+
+    @Test
+    void testToJsonBytesRoundTrip() {
+        byte[] bytes = JacksonUtils.toJsonBytes(new Item(7L, "中文"));
+        assertEquals("中文", JacksonUtils.fromJson(bytes, Item.class).name);
+        Map<String, Object> map = JacksonUtils.fromMap(bytes);
+        assertEquals(7, map.get("id"));
+    }
+
+    @Test
+    void testFromJsonByteSlice() {
+        byte[] json = "xx{\"id\":8}yy".getBytes(StandardCharsets.UTF_8);
+        assertEquals(8L, JacksonUtils.fromJson(json, 2, json.length - 4, Item.class).id);
+    }
+
+    @Test
+    void testFromJsonInputStream() {
+        InputStream in = new ByteArrayInputStream("[{\"id\":9}]".getBytes(StandardCharsets.UTF_8));
+        List<Item> items = JacksonUtils.fromJson(in, new TypeReference<>() {
+        });
+        assertEquals(9L, items.get(0).id);
+    }
+
+    @Test
+    void testFromJsonByteBuffer() {
+        byte[] json = "{\"id\":10}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.allocate(json.length + 3);
+        heap.put(new byte[]{' ', ' ', ' '}).put(json).flip().position(3);
+        assertEquals(10L, JacksonUtils.fromJson(heap.slice(), Item.class).id);
+        assertEquals(10L, JacksonUtils.fromJson(heap, Item.class).id);
+        assertEquals(3, heap.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length);
+        direct.put(json).flip();
+        assertEquals(10L, JacksonUtils.fromJson(direct, Item.class).id);
+        assertEquals(0, direct.position());
+    }
+
+    @Test
+    void testFromJsonBytesInvalid() {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> JacksonUtils.fromJson("{".getBytes(StandardCharsets.UTF_8), Item.class));
+        assertEquals(100001, exception.getCode());
+    }
+
+    @Test
+    void testWriteToOutputStreamAndChannel() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtils.writeTo(new Item(11L, "k"), out);
+        JacksonUtils.writeTo(new Item(12L, "l"), Channels.newChannel(out));
+        assertEquals("{\"id\":11,\"name\":\"k\"}{\"id\":12,\"name\":\"l\"}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testDefaultObjectMapperCreatedOnce() throws Exception {
+        JacksonUtils.setObjectMapper(null);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<ObjectMapper>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return JacksonUtils.getObjectMapper();
+                }));
+            }
+            start.countDown();
+            ObjectMapper first = futures.get(0).get();
+            for (Future<ObjectMapper> future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testReadConstraints() {
+        ObjectMapper mapper = JacksonUtils.applyReadConstraints(JacksonUtils.createDefaultObjectMapper(),
+                64L, 3, 10, 5);
+        JacksonUtils.setObjectMapper(mapper);
+        try {
+            assertEquals(Map.of("a", List.of(1)), JacksonUtils.fromMap("{\"a\":[1]}"));
+            for (String json : List.of("{\"a\":[[[1]]]}", "{\"a\":\"01234567890\"}", "{\"a\":1.23456}")) {
+                ServiceException e = assertThrows(ServiceException.class, () -> JacksonUtils.fromMap(json), json);
+                assertEquals(JacksonUtils.JSON_CONSTRAINT_ERROR, e.getCode(), json);
+            }
+            // 超长文档在读取到上限时即失败，而不是读完全部输入
+            byte[] large = ("[" + "1,".repeat(100_000) + "1]").getBytes(StandardCharsets.UTF_8);
+            ServiceException e = assertThrows(ServiceException.class,
+                    () -> JacksonUtils.fromJson(new ByteArrayInputStream(large), List.class));
+            assertEquals(JacksonUtils.JSON_CONSTRAINT_ERROR, e.getCode());
+            assertEquals(100001, assertThrows(ServiceException.class, () -> JacksonUtils.fromMap("{")).getCode());
+        } finally {
+            JacksonUtils.setObjectMapper(null);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonWarmerTest {
+
+    static class Order {
+        public Long id;
+        public List<String> tags;
+    }
+
+    static class Broken {
+        public String getValue() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    @Test
+    void testWarmedTypesHitCache() {
+        JacksonCache cache = new JacksonCache(new ObjectMapper(), 16);
+        JacksonWarmer.Result result = JacksonWarmer.warmUp(cache, List.of(Order.class), 0);
+        assertEquals(1, result.warmed());
+        assertTrue(result.failed().isEmpty());
+        long misses = cache.getStats().missCount();
+        cache.reader(cache.type(Order.class));
+        cache.writerForValue(new Order());
+        assertEquals(misses, cache.getStats().missCount());
+    }
+
+    @Test
+    void testRoundTripFailuresReported() {
+        JacksonCache cache = new JacksonCache(new ObjectMapper(), 16);
+        JacksonWarmer.Result result = JacksonWarmer.warmUp(cache, List.of(Order.class, Broken.class, Runnable.class), 2);
+        assertEquals(2, result.warmed());
+        assertEquals(List.of(Broken.class), result.failed());
+        assertTrue(result.elapsedNanos() > 0);
+    }
+}
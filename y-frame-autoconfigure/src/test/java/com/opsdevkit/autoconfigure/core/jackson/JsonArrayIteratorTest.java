@@ -0,0 +1,90 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonArrayIteratorTest {
+
+    static class Row {
+        public int id;
+    }
+
+    @Test
+    void testIterateString() {
+        JsonArrayIterator<Row> iterator = JacksonUtils.iterateList("[{\"id\":1},{\"id\":2},{\"id\":3}]", Row.class);
+        List<Integer> ids = new ArrayList<>();
+        iterator.forEachRemaining(row -> ids.add(row.id));
+        assertEquals(List.of(1, 2, 3), ids);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testStreamIsLazyAndClosesInput() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayInputStream in = new ByteArrayInputStream("[{\"id\":1},{\"id\":2},{broken".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() throws IOException {
+                closed.set(true);
+                super.close();
+            }
+        };
+        try (Stream<Row> stream = JacksonUtils.streamList(in, Row.class)) {
+            // 只消费前两个元素，损坏的第三个元素不会被读取
+            assertEquals(List.of(1, 2), stream.limit(2).map(row -> row.id).collect(Collectors.toList()));
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void testForEachPath(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("rows.json");
+        Files.writeString(file, "[{\"id\":1,\"name\":\"a\"},{\"id\":2}]");
+        List<Map> rows = new ArrayList<>();
+        JacksonUtils.forEachList(file, Map.class, rows::add);
+        assertEquals(2, rows.size());
+        assertEquals("a", rows.get(0).get("name"));
+    }
+
+    @Test
+    void testNullIsEmpty() {
+        assertFalse(JacksonUtils.iterateList("null", Row.class).hasNext());
+    }
+
+    @Test
+    void testMalformedElement() {
+        JsonArrayIterator<Row> iterator = JacksonUtils.iterateList("[{\"id\":1},{\"id\":", Row.class);
+        assertEquals(1, iterator.next().id);
+        ServiceException exception = assertThrows(ServiceException.class, iterator::next);
+        assertEquals(100001, exception.getCode());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testNotAnArray() {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> JacksonUtils.iterateList("{\"id\":1}", Row.class));
+        assertEquals(100001, exception.getCode());
+    }
+
+    @Test
+    void testMissingFile(@TempDir Path dir) {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> JacksonUtils.iterateList(dir.resolve("missing.json"), Row.class));
+        assertEquals(100001, exception.getCode());
+    }
+}
@@ -0,0 +1,98 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonChunkDecoderTest {
+
+    static class Item {
+        public Long id;
+        public String name;
+        public BigDecimal price;
+    }
+
+    private static final byte[] ARRAY = ("[{\"id\":1,\"name\":\"商品\",\"price\":0.10000000000000000001},"
+            + "{\"id\":2,\"name\":\"b\"}, {\"id\":3}]").getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testListDecoderAtEverySplit() {
+        for (int split = 0; split <= ARRAY.length; split++) {
+            JsonChunkDecoder<Item> decoder = JacksonUtils.listDecoder(Item.class);
+            List<Item> items = new ArrayList<>(decoder.feed(Arrays.copyOfRange(ARRAY, 0, split)));
+            items.addAll(decoder.feed(Arrays.copyOfRange(ARRAY, split, ARRAY.length)));
+            items.addAll(decoder.finish());
+            assertEquals(3, items.size(), "split at " + split);
+            assertEquals("商品", items.get(0).name);
+            assertEquals(new BigDecimal("0.10000000000000000001"), items.get(0).price);
+            assertEquals(3L, items.get(2).id);
+        }
+    }
+
+    @Test
+    void testElementsEmittedAsSoonAsComplete() {
+        JsonChunkDecoder<Item> decoder = JacksonUtils.listDecoder(Item.class);
+        assertEquals(List.of(), decoder.feed("[{\"id\":1".getBytes(StandardCharsets.UTF_8)));
+        List<Item> first = decoder.feed("}, {\"id\"".getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, first.size());
+        assertEquals(1L, first.get(0).id);
+        assertEquals(1, decoder.feed(":2}]".getBytes(StandardCharsets.UTF_8)).size());
+        assertEquals(List.of(), decoder.finish());
+    }
+
+    @Test
+    void testValueDecoderWithByteBuffers() {
+        JsonChunkDecoder<Map> decoder = JacksonUtils.decoder(Map.class);
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put("{\"a\":1} {\"a\"".getBytes(StandardCharsets.UTF_8)).flip();
+        List<Map> values = new ArrayList<>(decoder.feed(direct));
+        assertEquals(direct.limit(), direct.position());
+
+        direct.clear();
+        direct.put(":2}".getBytes(StandardCharsets.UTF_8)).flip();
+        values.addAll(decoder.feed(direct));
+        values.addAll(decoder.finish());
+        assertEquals(List.of(Map.of("a", 1), Map.of("a", 2)), values);
+
+        // 顶层数字在输入结束时才完整
+        JsonChunkDecoder<Integer> numbers = JacksonUtils.decoder(Integer.class);
+        assertEquals(List.of(12), numbers.feed("12 3".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(List.of(), numbers.feed("4".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(List.of(34), numbers.finish());
+    }
+
+    @Test
+    void testNullAndEmptyInput() {
+        assertEquals(List.of(), JacksonUtils.listDecoder(Item.class).finish());
+        JsonChunkDecoder<Item> decoder = JacksonUtils.listDecoder(Item.class);
+        decoder.feed("null".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of(), decoder.finish());
+    }
+
+    @Test
+    void testErrors() {
+        JsonChunkDecoder<Item> truncated = JacksonUtils.listDecoder(Item.class);
+        truncated.feed("[{\"id\":1}, {\"id\"".getBytes(StandardCharsets.UTF_8));
+        ServiceException exception = assertThrows(ServiceException.class, truncated::finish);
+        assertEquals(100001, exception.getCode());
+        assertThrows(IllegalStateException.class, () -> truncated.feed(new byte[]{'1'}));
+
+        JsonChunkDecoder<Item> notArray = JacksonUtils.listDecoder(Item.class);
+        assertThrows(ServiceException.class, () -> notArray.feed("{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        JsonChunkDecoder<Item> trailing = JacksonUtils.listDecoder(Item.class);
+        assertThrows(ServiceException.class, () -> trailing.feed("[] {}".getBytes(StandardCharsets.UTF_8)));
+
+        JsonChunkDecoder<Item> mismatch = JacksonUtils.decoder(Item.class);
+        assertThrows(ServiceException.class, () -> mismatch.feed("{\"id\":\"x\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,173 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonMergePatchTest {
+
+    static class Address {
+        public String city;
+        public String street;
+    }
+
+    static class User {
+        public Long id;
+        public String name;
+        public Integer age;
+        public Address address;
+        public List<String> tags;
+        public Map<String, String> attrs;
+        public Map<String, Address> addresses;
+        public Map<String, Object> extra;
+        public List<Map<String, Object>> rows;
+    }
+
+    private static User user() {
+        User user = new User();
+        user.id = 1L;
+        user.name = "张三";
+        user.age = 30;
+        user.address = new Address();
+        user.address.city = "上海";
+        user.address.street = "南京路";
+        user.tags = new ArrayList<>(List.of("a", "b"));
+        return user;
+    }
+
+    @Test
+    void testUpdate() {
+        User user = user();
+        Address address = user.address;
+        User updated = JacksonUtils.update(user, "{\"name\":\"李四\",\"address\":{\"city\":\"北京\"}}");
+        assertSame(user, updated);
+        assertEquals("李四", user.name);
+        assertEquals(30, user.age);
+        // update不递归合并，嵌套对象被替换
+        assertNotSame(address, user.address);
+        assertNull(user.address.street);
+        assertThrows(ServiceException.class, () -> JacksonUtils.update(user, "{\"age\":"));
+    }
+
+    @Test
+    void testMergePatchObject() {
+        User user = user();
+        Address address = user.address;
+        User patched = JacksonUtils.mergePatch(user,
+                "{\"name\":\"李四\",\"age\":null,\"address\":{\"city\":\"北京\"},\"tags\":[\"c\"]}");
+        assertSame(user, patched);
+        assertEquals(1L, user.id);
+        assertEquals("李四", user.name);
+        assertNull(user.age);
+        assertSame(address, user.address);
+        assertEquals("北京", user.address.city);
+        assertEquals("南京路", user.address.street);
+        // 数组整体替换而不是追加
+        assertEquals(List.of("c"), user.tags);
+
+        // 补丁为字节数据或对象时同样适用
+        JacksonUtils.mergePatch(user, "{\"address\":{\"street\":\"长安街\"}}".getBytes(StandardCharsets.UTF_8));
+        assertEquals("长安街", user.address.street);
+        JacksonUtils.mergePatch(user, Map.of("name", "王五"));
+        assertEquals("王五", user.name);
+    }
+
+    @Test
+    void testMergePatchMapProperties() {
+        User user = user();
+        user.attrs = new LinkedHashMap<>(Map.of("k", "v", "k2", "v2"));
+        user.addresses = new LinkedHashMap<>();
+        Address home = new Address();
+        home.city = "上海";
+        home.street = "南京路";
+        user.addresses.put("home", home);
+        user.extra = new LinkedHashMap<>();
+        user.extra.put("a", new LinkedHashMap<>(Map.of("b", 1, "c", 2)));
+
+        JacksonUtils.mergePatch(user, "{\"attrs\":{\"k\":null,\"k3\":\"v3\"},"
+                + "\"addresses\":{\"home\":{\"city\":\"北京\"},\"work\":{\"city\":\"杭州\",\"street\":null}},"
+                + "\"extra\":{\"a\":{\"b\":null},\"d\":[1]}}");
+        // null删除Map中的键而不是写入null值
+        assertEquals(Map.of("k2", "v2", "k3", "v3"), user.attrs);
+        assertSame(home, user.addresses.get("home"));
+        assertEquals("北京", home.city);
+        assertEquals("南京路", home.street);
+        assertEquals("杭州", user.addresses.get("work").city);
+        assertEquals(Map.of("a", Map.of("c", 2), "d", List.of(1)), user.extra);
+
+        // 属性原为null时按补丁创建，null值被丢弃
+        User empty = new User();
+        JacksonUtils.mergePatch(empty, "{\"attrs\":{\"k\":null,\"k2\":\"v2\"}}");
+        assertEquals(Map.of("k2", "v2"), empty.attrs);
+    }
+
+    @Test
+    void testMergePatchKeepsNullsInArrays() {
+        User user = new User();
+        JacksonUtils.mergePatch(user, "{\"rows\":[{\"a\":null,\"b\":1}],\"extra\":{\"x\":{\"y\":null,\"z\":1},\"l\":[{\"n\":null}]}}");
+        // 数组整体替换，其中Map的null值原样保留
+        assertEquals(1, user.rows.size());
+        assertTrue(user.rows.get(0).containsKey("a"));
+        assertNull(user.rows.get(0).get("a"));
+        assertEquals(1, user.rows.get(0).get("b"));
+        // 作为合并目标的Map（含嵌套Map）丢弃null值
+        assertEquals(Map.of("z", 1), user.extra.get("x"));
+        List<?> list = (List<?>) user.extra.get("l");
+        assertTrue(((Map<?, ?>) list.get(0)).containsKey("n"));
+    }
+
+    @Test
+    void testMergePatchMap() {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("a", "b");
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("d", "e");
+        nested.put("f", "g");
+        target.put("c", nested);
+
+        JacksonUtils.mergePatch(target, "{\"a\":\"z\",\"c\":{\"f\":null},\"x\":[1,2]}");
+        assertEquals("{\"a\":\"z\",\"c\":{\"d\":\"e\"},\"x\":[1,2]}", JacksonUtils.toJson(target));
+        assertSame(nested, target.get("c"));
+
+        JacksonUtils.mergePatch(target, "{\"c\":null,\"n\":{\"m\":null,\"k\":1}}");
+        assertEquals("{\"a\":\"z\",\"x\":[1,2],\"n\":{\"k\":1}}", JacksonUtils.toJson(target));
+    }
+
+    @Test
+    void testMergePatchNonObject() {
+        // 补丁不是JSON对象时替换整个目标
+        List<String> replaced = JacksonUtils.mergePatch(new ArrayList<>(List.of("a")), "[\"b\",\"c\"]");
+        assertEquals(List.of("b", "c"), replaced);
+    }
+
+    @Test
+    void testDiff() {
+        User before = user();
+        User after = user();
+        assertEquals("{}", JacksonUtils.diff(before, after));
+
+        after.name = "李四";
+        after.age = null;
+        after.address.city = "北京";
+        after.tags = List.of("a");
+        String patch = JacksonUtils.diff(before, after);
+        assertEquals("{\"name\":\"李四\",\"address\":{\"city\":\"北京\"},\"tags\":[\"a\"],\"age\":null}", patch);
+
+        // 差异作为补丁应用后与after一致
+        JacksonUtils.mergePatch(before, patch);
+        assertEquals(JacksonUtils.toJson(after), JacksonUtils.toJson(before));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonUtils.diff(Map.of("a", 1), Map.of("a", 2), out);
+        assertEquals("{\"a\":2}", out.toString(StandardCharsets.UTF_8));
+        assertEquals("[2]", JacksonUtils.diff(List.of(1), List.of(2)));
+    }
+}
@@ -0,0 +1,71 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPointerExtractorTest {
+
+    private static final String JSON = "{\"header\":{\"traceId\":\"t-1\",\"ts\":1700000000000},"
+            + "\"items\":[{\"id\":1,\"price\":1.5,\"tags\":[\"a\"]},{\"id\":2,\"price\":2.5}],"
+            + "\"0\":\"zero\",\"nested\":{\"a\":{\"b\":true}}}";
+
+    static class Item {
+        public Integer id;
+        public Double price;
+    }
+
+    @Test
+    void testExtractSingle() {
+        assertEquals("t-1", JacksonUtils.extract(JSON, "/header/traceId", String.class));
+        assertEquals(2, JacksonUtils.extract(JSON, "/items/1/id", Integer.class));
+        assertEquals(1.5, JacksonUtils.extract(JSON, "/items/0", Item.class).price);
+        List<Item> items = JacksonUtils.extract(JSON, "/items", new TypeReference<>() {
+        });
+        assertEquals(2, items.size());
+        assertEquals("zero", JacksonUtils.extract(JSON, "/0", String.class));
+        assertNull(JacksonUtils.extract(JSON, "/missing/path", String.class));
+        assertNull(JacksonUtils.extract(JSON, "/items/5/id", Integer.class));
+        assertEquals(JacksonUtils.fromMap(JSON), JacksonUtils.extract(JSON, "", Map.class));
+    }
+
+    @Test
+    void testExtractAll() {
+        Map<String, Object> values = JacksonUtils.extractAll(JSON,
+                List.of("/items/0/id", "/header/ts", "/items/1/price", "/nested/a", "/nested/a/b", "/missing"));
+        assertEquals(List.of("/items/0/id", "/header/ts", "/items/1/price", "/nested/a", "/nested/a/b"),
+                List.copyOf(values.keySet()));
+        // 数值类型与fromMap一致
+        assertEquals(1, values.get("/items/0/id"));
+        assertEquals(1700000000000L, values.get("/header/ts"));
+        assertEquals(2.5, values.get("/items/1/price"));
+        assertEquals(Map.of("b", true), values.get("/nested/a"));
+        assertEquals(true, values.get("/nested/a/b"));
+    }
+
+    @Test
+    void testStopsAfterAllFound() {
+        // 目标值之后的内容不再读取，其中的语法错误不会被发现
+        String truncated = "{\"header\":{\"traceId\":\"t-2\"},\"items\":[{\"id\":";
+        assertEquals("t-2", JacksonUtils.extract(truncated, "/header/traceId", String.class));
+        assertThrows(ServiceException.class, () -> JacksonUtils.extract(truncated, "/items/0/id", Integer.class));
+    }
+
+    @Test
+    void testExtractFromOtherInputs() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        assertEquals("t-1", JacksonUtils.extract(bytes, "/header/traceId", String.class));
+        InputStream in = new ByteArrayInputStream(bytes);
+        assertEquals(2.5, JacksonUtils.extract(in, "/items/1/price", Double.class));
+        Map<String, Object> map = JacksonUtils.fromMap(JSON);
+        assertEquals(Map.of("/items/1/id", 2), JacksonUtils.extractAll(map, List.of("/items/1/id")));
+    }
+}
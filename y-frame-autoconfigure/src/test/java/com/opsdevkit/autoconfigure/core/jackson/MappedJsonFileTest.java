@@ -0,0 +1,117 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedJsonFileTest {
+
+    static class Item {
+        public Long id;
+        public String name;
+    }
+
+    @TempDir
+    Path dir;
+
+    private Path write(String content) throws Exception {
+        Path path = Files.createTempFile(dir, "data", ".json");
+        Files.writeString(path, content, StandardCharsets.UTF_8);
+        return path;
+    }
+
+    @Test
+    void testStreamAcrossSegments() throws Exception {
+        String json = "[{\"id\":1,\"name\":\"跨越分段的中文名称\"},{\"id\":2,\"name\":\"b\"}]";
+        MappedJsonFile file = MappedJsonFile.map(write(json), 16);
+        assertEquals(json.getBytes(StandardCharsets.UTF_8).length, file.size());
+        try (InputStream in = file.newInputStream()) {
+            assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        try (InputStream in = file.newInputStream(10, 40)) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertArrayEquals(Arrays.copyOfRange(bytes, 10, 40), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testSplitArray() throws Exception {
+        String json = " [ {\"a\":\"x,]\\\"}\"} , [1,2] ,3 ] \n";
+        long[] bounds = MappedJsonFile.map(write(json), 8).splitArray(0);
+        assertNotNull(bounds);
+        List<String> chunks = new ArrayList<>();
+        for (int i = 0; i < bounds.length; i += 2) {
+            chunks.add(json.substring((int) bounds[i], (int) bounds[i + 1]).trim());
+        }
+        assertEquals(List.of("{\"a\":\"x,]\\\"}\"}", "[1,2]", "3"), chunks);
+
+        assertNull(MappedJsonFile.map(write("{\"a\":[1,2]}")).splitArray(0));
+        assertNull(MappedJsonFile.map(write("[1,2] [3]")).splitArray(0));
+        assertNull(MappedJsonFile.map(write("[1,2")).splitArray(0));
+    }
+
+    @Test
+    void testJacksonUtilsPathReads() throws Exception {
+        Path path = write("[{\"id\":1,\"name\":\"中文\"},{\"id\":2}]");
+        assertEquals("中文", JacksonUtils.fromList(path, Item.class).get(0).name);
+        assertEquals(2, JacksonUtils.<List<Map<String, Object>>>fromJson(path, JacksonUtils.getCache().listType(Map.class)).size());
+        assertEquals(2L, JacksonUtils.fromListParallel(path, Item.class).get(1).id);
+        List<Long> ids = new ArrayList<>();
+        JacksonUtils.forEachList(path, Item.class, item -> ids.add(item.id));
+        assertEquals(List.of(1L, 2L), ids);
+    }
+
+    @Test
+    void testFromListParallelKeepsOrder() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        int count = 80_000;
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",\n").append("{\"id\":").append(i).append(",\"name\":\"名称, [").append(i).append("]\"}");
+        }
+        Path path = write(json.append(']').toString());
+        assertTrue(Files.size(path) > 2 * MappedJsonFile.MINIMUM_CHUNK_SIZE);
+        List<Item> items = JacksonUtils.fromListParallel(path, Item.class);
+        assertEquals(count, items.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, items.get(i).id);
+        }
+    }
+
+    @Test
+    void testErrors() throws Exception {
+        ServiceException exception = assertThrows(ServiceException.class,
+                () -> JacksonUtils.fromListParallel(write("[{\"id\":1}"), Item.class));
+        assertEquals(100001, exception.getCode());
+        assertThrows(ServiceException.class, () -> JacksonUtils.fromJson(dir.resolve("missing.json"), Item.class));
+    }
+
+    @Test
+    void testParallelErrorReportsFileOffset() throws Exception {
+        StringBuilder json = new StringBuilder("[");
+        int count = 200_000;
+        for (int i = 0; i < count; i++) {
+            json.append(i == 0 ? "" : ",\n").append("{\"id\":").append(i == count - 10 ? "@" : String.valueOf(i)).append('}');
+        }
+        Path path = write(json.append(']').toString());
+        assertTrue(Files.size(path) > 2 * MappedJsonFile.MINIMUM_CHUNK_SIZE);
+        ServiceException sequential = assertThrows(ServiceException.class, () -> JacksonUtils.fromList(path, Item.class));
+        long offset = ((JsonProcessingException) sequential.getCause()).getLocation().getByteOffset();
+        ServiceException parallel = assertThrows(ServiceException.class, () -> JacksonUtils.fromListParallel(path, Item.class));
+        assertEquals(100001, parallel.getCode());
+        // 位置为文件中的绝对位置，与顺序读取报告的一致
+        assertTrue(parallel.getCause().getMessage().contains("file byte offset " + offset + ":"),
+                parallel.getCause().getMessage());
+    }
+}
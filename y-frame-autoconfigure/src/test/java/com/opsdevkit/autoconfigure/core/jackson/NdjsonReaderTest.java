@@ -0,0 +1,143 @@
+package com.opsdevkit.autoconfigure.core.jackson;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonReaderTest {
+
+    static class Event {
+        public int seq;
+        public String payload;
+
+        Event() {
+        }
+
+        Event(int seq) {
+            this.seq = seq;
+            this.payload = "p" + seq;
+        }
+    }
+
+    static class Counted {
+        static final AtomicInteger CREATED = new AtomicInteger();
+        public int seq;
+
+        Counted() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    private static byte[] write(List<Event> events) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NdjsonWriter writer = new NdjsonWriter(out, 7)) {
+            writer.writeAll(events);
+        }
+        return out.toByteArray();
+    }
+
+    @Test
+    void testWriterOutput() {
+        String text = new String(write(List.of(new Event(1), new Event(2))), StandardCharsets.UTF_8);
+        assertEquals("{\"seq\":1,\"payload\":\"p1\"}\n{\"seq\":2,\"payload\":\"p2\"}\n", text);
+    }
+
+    @Test
+    void testOrderedRoundTripAcrossChunks() {
+        List<Event> events = IntStream.range(0, 5000).mapToObj(Event::new).collect(Collectors.toList());
+        NdjsonReader<Event> reader = NdjsonReader.builder(Event.class)
+                .chunkSize(256)
+                .parallelism(4)
+                .build();
+        List<Event> read = reader.readAll(new ByteArrayInputStream(write(events)));
+        assertEquals(5000, read.size());
+        for (int i = 0; i < read.size(); i++) {
+            assertEquals(i, read.get(i).seq);
+        }
+    }
+
+    @Test
+    void testUnorderedReadsAllRecords() {
+        List<Event> events = IntStream.range(0, 2000).mapToObj(Event::new).collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            NdjsonReader<Event> reader = NdjsonReader.builder(Event.class)
+                    .chunkSize(128)
+                    .ordered(false)
+                    .executor(executor)
+                    .build();
+            List<Event> read = reader.readAll(new ByteArrayInputStream(write(events)));
+            assertEquals(IntStream.range(0, 2000).sum(), read.stream().mapToInt(e -> e.seq).sum());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testBadLinesDoNotAbortBatch() {
+        String input = "{\"seq\":1}\n{bad json\n\n{\"seq\":3}\r\n{\"seq\":\"x\"}\n{\"seq\":5}";
+        List<Long> badLines = new ArrayList<>();
+        List<Event> read = new ArrayList<>();
+        NdjsonReader.Summary summary = NdjsonReader.builder(Event.class)
+                .chunkSize(16)
+                .errorHandler((line, content, exception) -> {
+                    assertEquals(100001, exception.getCode());
+                    badLines.add(line);
+                })
+                .build()
+                .read(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), read::add);
+        assertEquals(List.of(1, 3, 5), read.stream().map(e -> e.seq).collect(Collectors.toList()));
+        assertEquals(List.of(2L, 5L), badLines);
+        assertEquals(3, summary.getRecords());
+        assertEquals(2, summary.getFailures());
+    }
+
+    @Test
+    void testLineLongerThanChunk() {
+        Event big = new Event(1);
+        big.payload = "x".repeat(1000);
+        List<Event> read = NdjsonReader.builder(Event.class).chunkSize(64).build()
+                .readAll(new ByteArrayInputStream(write(List.of(new Event(0), big, new Event(2)))));
+        assertEquals(3, read.size());
+        assertEquals(1000, read.get(1).payload.length());
+    }
+
+    @Test
+    void testPendingChunksCancelledWhenConsumerFails() {
+        // 只立即执行第一个数据块，其余任务暂存
+        List<Runnable> held = new ArrayList<>();
+        Executor executor = task -> {
+            if (Counted.CREATED.get() == 0 && held.isEmpty()) {
+                task.run();
+            } else {
+                held.add(task);
+            }
+        };
+        Counted.CREATED.set(0);
+        NdjsonReader<Counted> reader = NdjsonReader.builder(Counted.class)
+                .chunkSize(16)
+                .parallelism(1)
+                .executor(executor)
+                .build();
+        byte[] input = "{\"seq\":1}\n{\"seq\":2}\n{\"seq\":3}\n".getBytes(StandardCharsets.UTF_8);
+        assertThrows(IllegalStateException.class, () -> reader.read(new ByteArrayInputStream(input), record -> {
+            throw new IllegalStateException("consumer failed");
+        }));
+        assertFalse(held.isEmpty());
+        held.forEach(Runnable::run);
+        // 被取消的数据块不再解析
+        assertEquals(1, Counted.CREATED.get());
+    }
+}
@@ -0,0 +1,105 @@
+package com.opsdevkit.autoconfigure.exception;
+
+import com.opsdevkit.autoconfigure.core.exception.CodeErrorMsgException;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.test.json.JsonCompareMode;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CodeExceptionHandlerTest {
+
+    @RestController
+    static class FailingController {
+        @GetMapping("/mapped/{code}")
+        String mapped(@PathVariable Integer code) {
+            throw ServiceException.of(code);
+        }
+
+        @GetMapping("/explicit")
+        String explicit() {
+            throw ServiceException.of(404001, "订单\"不存在\"");
+        }
+    }
+
+    private final CodeExceptionHandler handler = new CodeExceptionHandler(500,
+            List.of("400000-499999=400", "404001=404", "200000-299999=200"), 16);
+
+    @AfterEach
+    void tearDown() {
+        CodeErrorMsgException.setErrorMsg(null);
+    }
+
+    @Test
+    void testResponses() throws Exception {
+        CodeErrorMsgException.setErrorMsg(code -> "msg-" + code);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FailingController()).setControllerAdvice(handler).build();
+        mockMvc.perform(get("/mapped/200001"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(content().string("{\"code\":200001,\"msg\":\"msg-200001\"}"));
+        mockMvc.perform(get("/mapped/410000"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/mapped/999"))
+                .andExpect(status().isInternalServerError());
+        mockMvc.perform(get("/explicit"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().json("{\"code\":404001,\"msg\":\"订单\\\"不存在\\\"\"}", JsonCompareMode.STRICT));
+    }
+
+    @Test
+    void testMappedBodyCached() {
+        CodeErrorMsgException.setErrorMsg(code -> "cached");
+        byte[] first = handler.body(ServiceException.of(200002));
+        assertSame(first, handler.body(ServiceException.of(200002)));
+        // 显式指定的消息不缓存
+        assertNotSame(handler.body(ServiceException.of(200003, "x")), handler.body(ServiceException.of(200003, "x")));
+        // 映射的消息变化后重新编码
+        CodeErrorMsgException.setErrorMsg(code -> "changed");
+        assertEquals("{\"code\":200002,\"msg\":\"changed\"}", new String(handler.body(ServiceException.of(200002))));
+    }
+
+    @Test
+    void testNestedStatusMappings() {
+        CodeExceptionHandler nested = new CodeExceptionHandler(500, List.of("1-100=400", "10-20=401", "15=402"), 0);
+        assertEquals(400, nested.status(9));
+        assertEquals(401, nested.status(14));
+        assertEquals(402, nested.status(15));
+        assertEquals(401, nested.status(20));
+        assertEquals(400, nested.status(100));
+        assertEquals(500, nested.status(101));
+        assertEquals(404, handler.status(404001));
+        assertEquals(400, handler.status(404002));
+    }
+
+    @Test
+    void testInvalidStatusMappings() {
+        assertThrows(IllegalArgumentException.class, () -> new CodeExceptionHandler(500, List.of("1=999"), 0));
+        assertThrows(IllegalArgumentException.class, () -> new CodeExceptionHandler(500, List.of("abc"), 0));
+    }
+
+    @Test
+    void testAutoConfiguration() {
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ExceptionAutoConfiguration.class))
+                .withPropertyValues("y-frame.exception.handler.status-mappings=100000-199999=400")
+                .run(context -> assertEquals(400, context.getBean(CodeExceptionHandler.class).status(100001)));
+        new WebApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ExceptionAutoConfiguration.class))
+                .withPropertyValues("y-frame.exception.handler.enabled=false")
+                .run(context -> assertFalse(context.containsBean("codeExceptionHandler")));
+    }
+}
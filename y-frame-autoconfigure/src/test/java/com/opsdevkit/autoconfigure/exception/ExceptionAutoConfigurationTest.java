@@ -0,0 +1,76 @@
+package com.opsdevkit.autoconfigure.exception;
+
+import com.opsdevkit.autoconfigure.core.exception.CodeErrorMsgException;
+import com.opsdevkit.autoconfigure.core.exception.CodeExceptionMetrics;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import com.opsdevkit.autoconfigure.core.exception.StacklessCodes;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExceptionAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ExceptionAutoConfiguration.class));
+
+    @Test
+    void testStacklessCodesApplied() {
+        contextRunner.withPropertyValues("y-frame.exception.stackless-codes=200000-299999,404").run(context -> {
+            assertTrue(StacklessCodes.contains(250000));
+            assertTrue(StacklessCodes.contains(404));
+            assertFalse(StacklessCodes.contains(100001));
+        });
+        assertFalse(StacklessCodes.contains(250000));
+    }
+
+    @Test
+    void testErrorMsgRegistryInstalled() {
+        contextRunner.withPropertyValues(
+                "y-frame.exception.error-msg.locations=classpath:error-msg/messages.properties,classpath:error-msg/messages_en.yml",
+                "y-frame.exception.error-msg.default-message=unknown").run(context -> {
+            assertSame(context.getBean(ExceptionInitializer.class).getErrorMsgRegistry(), CodeErrorMsgException.getErrorMsg());
+            assertEquals("unknown", ServiceException.of(300001).getMessage());
+            LocaleContextHolder.setLocale(Locale.ENGLISH);
+            try {
+                assertEquals("JSON parse error", ServiceException.of(100001).getMessage());
+            } finally {
+                LocaleContextHolder.resetLocaleContext();
+            }
+        });
+        assertEquals("-", ServiceException.of(100001).getMessage());
+    }
+
+    @Test
+    void testMetricsBinder() {
+        contextRunner.withPropertyValues("y-frame.exception.metrics.enabled=true").run(context -> {
+            assertTrue(CodeExceptionMetrics.isEnabled());
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            SimpleMeterRegistry second = new SimpleMeterRegistry();
+            context.getBean(CodeExceptionMeterBinder.class).bindTo(registry);
+            context.getBean(CodeExceptionMeterBinder.class).bindTo(second);
+            ServiceException.of(800001, "x");
+            ServiceException.of(800001, "x");
+            FunctionCounter counter = registry.get(CodeExceptionMeterBinder.METRIC_NAME).tag("code", "800001").functionCounter();
+            assertEquals(2.0, counter.count());
+            assertEquals(2.0, second.get(CodeExceptionMeterBinder.METRIC_NAME).tag("code", "800001").functionCounter().count());
+
+            // 其他绑定器销毁时只移除自己的回调
+            CodeExceptionMeterBinder other = new CodeExceptionMeterBinder();
+            SimpleMeterRegistry third = new SimpleMeterRegistry();
+            other.bindTo(third);
+            other.destroy();
+            ServiceException.of(800002, "y");
+            assertNotNull(registry.find(CodeExceptionMeterBinder.METRIC_NAME).tag("code", "800002").functionCounter());
+            assertNull(third.find(CodeExceptionMeterBinder.METRIC_NAME).tag("code", "800002").functionCounter());
+        });
+        assertFalse(CodeExceptionMetrics.isEnabled());
+        CodeExceptionMetrics.reset();
+    }
+}
@@ -0,0 +1,244 @@
+package com.opsdevkit.autoconfigure.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonBulk;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonMetrics;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonProfile;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonRecyclerPools;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonWarmer;
+import com.opsdevkit.autoconfigure.jackson.warmup.AnnotatedDto;
+import com.opsdevkit.autoconfigure.jackson.warmup.WarmUpTestConfiguration;
+import com.opsdevkit.autoconfigure.jackson.warmup.plain.PlainDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.javapoet.ClassName;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JacksonUtilsAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class, JacksonUtilsAutoConfiguration.class));
+
+    static class Target {
+        public String name;
+    }
+
+    @AfterEach
+    void tearDown() {
+        JacksonUtils.setObjectMapper(null);
+    }
+
+    @Test
+    void testPublishesCopyOfContextObjectMapper() {
+        contextRunner.run(context -> {
+            ObjectMapper contextMapper = context.getBean(ObjectMapper.class);
+            ObjectMapper published = JacksonUtils.getObjectMapper();
+            assertNotSame(contextMapper, published);
+            assertSame(context.getBean(JacksonUtilsInitializer.class).getObjectMapper(), published);
+            // 容器ObjectMapper注册的JavaTimeModule同样生效
+            assertEquals("\"2025-06-22\"", JacksonUtils.toJson(LocalDate.of(2025, 6, 22)));
+            // 默认忽略null值
+            assertEquals("{}", JacksonUtils.toJson(Map.of()));
+            assertEquals("{}", JacksonUtils.toJson(new Target()));
+            // 未设置时沿用容器ObjectMapper对未知属性的处理
+            assertEquals("a", JacksonUtils.fromJson("{\"name\":\"a\",\"unknown\":1}", Target.class).name);
+        });
+    }
+
+    @Test
+    void testKeepsSpringJacksonProperties() {
+        contextRunner.withPropertyValues(
+                "y-frame.jackson.default-property-inclusion=use_defaults",
+                "spring.jackson.default-property-inclusion=non_empty",
+                "spring.jackson.deserialization.fail-on-unknown-properties=true").run(context -> {
+            Target target = new Target();
+            target.name = "";
+            assertEquals("{}", JacksonUtils.toJson(target));
+            assertThrows(ServiceException.class, () -> JacksonUtils.fromJson("{\"unknown\":1}", Target.class));
+        });
+    }
+
+    @Test
+    void testPropertiesApplied() {
+        contextRunner.withPropertyValues(
+                "y-frame.jackson.default-property-inclusion=always",
+                "y-frame.jackson.fail-on-unknown-properties=true",
+                "y-frame.jackson.cache-maximum-size=16").run(context -> {
+            assertEquals("{\"name\":null}", JacksonUtils.toJson(new Target()));
+            assertThrows(ServiceException.class, () -> JacksonUtils.fromJson("{\"unknown\":1}", Target.class));
+            assertEquals(16, JacksonUtils.getCache().getMaximumSize());
+        });
+    }
+
+    static class Named {
+        public String userName;
+        public Long userId;
+    }
+
+    @Test
+    void testProfilesRegistered() {
+        contextRunner.withPropertyValues(
+                "y-frame.jackson.profiles.snake.property-naming-strategy=snake_case",
+                "y-frame.jackson.profiles.strict.fail-on-unknown-properties=true",
+                "y-frame.jackson.profiles.strict.default-property-inclusion=always",
+                "y-frame.jackson.profiles.strict.serialization.write-dates-as-timestamps=true").run(context -> {
+            Named named = new Named();
+            named.userName = "a";
+            assertEquals("{\"user_name\":\"a\"}", JacksonUtils.profile("snake").toJson(named));
+            // 沿用容器ObjectMapper的模块
+            assertEquals("\"2025-06-22\"", JacksonUtils.profile("snake").toJson(LocalDate.of(2025, 6, 22)));
+            assertEquals("{\"userName\":\"a\",\"userId\":null}", JacksonUtils.profile("strict").toJson(named));
+            assertEquals("[2025,6,22]", JacksonUtils.profile("strict").toJson(LocalDate.of(2025, 6, 22)));
+            assertThrows(ServiceException.class, () -> JacksonUtils.profile("strict").fromJson("{\"x\":1}", Named.class));
+            // 默认ObjectMapper不受影响
+            assertEquals("{\"userName\":\"a\"}", JacksonUtils.toJson(named));
+        });
+        assertFalse(JacksonUtils.getProfileNames().contains("snake"));
+    }
+
+    @Test
+    void testBulkConfigured() {
+        contextRunner.withPropertyValues(
+                "y-frame.jackson.bulk.executor=fork-join",
+                "y-frame.jackson.bulk.threshold=4",
+                "y-frame.jackson.bulk.parallelism=2").run(context -> {
+            assertNotSame(JacksonBulk.defaults(), JacksonUtils.getBulk());
+            assertEquals(List.of("1", "\"a\""), JacksonUtils.toJsonAll(List.of(1, "a")).orElseThrow());
+        });
+        assertSame(JacksonBulk.defaults(), JacksonUtils.getBulk());
+    }
+
+    @Test
+    void testReadConstraintsAndMetrics() {
+        contextRunner.withPropertyValues(
+                "y-frame.jackson.read-constraints.max-nesting-depth=2",
+                "y-frame.jackson.metrics.enabled=true").run(context -> {
+            ServiceException e = assertThrows(ServiceException.class, () -> JacksonUtils.fromMap("{\"a\":{\"b\":[1]}}"));
+            assertEquals(JacksonUtils.JSON_CONSTRAINT_ERROR, e.getCode());
+            // 容器中的ObjectMapper不受约束影响
+            assertNotNull(context.getBean(ObjectMapper.class).readValue("{\"a\":{\"b\":[1]}}", Map.class));
+
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            context.getBean(JacksonMeterBinder.class).bindTo(registry);
+            Target target = JacksonUtils.fromJson("{\"name\":\"a\"}", Target.class);
+            JacksonUtils.toJson(target);
+            String type = Target.class.getName();
+            Timer timer = registry.get(JacksonMeterBinder.METRIC_NAME).tags("operation", "read", "type", type).timer();
+            assertEquals(1, timer.count());
+            DistributionSummary payload = registry.get(JacksonMeterBinder.PAYLOAD_METRIC_NAME)
+                    .tags("operation", "write", "type", type).summary();
+            assertEquals(12.0, payload.totalAmount());
+
+            // 绑定第二个MeterRegistry不影响第一个
+            SimpleMeterRegistry second = new SimpleMeterRegistry();
+            context.getBean(JacksonMeterBinder.class).bindTo(second);
+            JacksonUtils.fromJson("{\"name\":\"a\"}", Target.class);
+            assertEquals(2, timer.count());
+            assertEquals(1, second.get(JacksonMeterBinder.METRIC_NAME).tags("operation", "read", "type", type).timer().count());
+        });
+        assertFalse(JacksonMetrics.isEnabled());
+        contextRunner.run(context -> assertTrue(context.getBeansOfType(JacksonMeterBinder.class).isEmpty()));
+    }
+
+    @Test
+    void testRecyclerPool() {
+        contextRunner.withPropertyValues("y-frame.jackson.recycler-pool=shared").run(context -> {
+            assertSame(JacksonRecyclerPools.of(JacksonRecyclerPools.Strategy.SHARED),
+                    JacksonUtils.getObjectMapper().getFactory()._getRecyclerPool());
+            // 容器中的ObjectMapper不受影响
+            assertNotSame(JacksonUtils.getObjectMapper().getFactory()._getRecyclerPool(),
+                    context.getBean(ObjectMapper.class).getFactory()._getRecyclerPool());
+        });
+    }
+
+    @Test
+    void testRecyclerPoolWithVirtualThreads() {
+        JacksonUtilsInitializer initializer = new JacksonUtilsInitializer(null, new JacksonUtilsProperties(), true);
+        initializer.afterPropertiesSet();
+        try {
+            assertSame(JacksonRecyclerPools.of(JacksonRecyclerPools.Strategy.STRIPED),
+                    JacksonUtils.getObjectMapper().getFactory()._getRecyclerPool());
+        } finally {
+            initializer.destroy();
+        }
+        // 未启用虚拟线程时使用默认策略
+        contextRunner.run(context -> assertSame(JacksonRecyclerPools.of(JacksonRecyclerPools.defaultStrategy()),
+                JacksonUtils.getObjectMapper().getFactory()._getRecyclerPool()));
+    }
+
+    @Test
+    void testWarmUp() {
+        contextRunner.withUserConfiguration(WarmUpTestConfiguration.class).withPropertyValues(
+                "y-frame.jackson.warm-up.enabled=true",
+                "y-frame.jackson.warm-up.packages=com.opsdevkit.autoconfigure.jackson.warmup.plain",
+                "y-frame.jackson.warm-up.round-trips=2",
+                "y-frame.jackson.profiles.snake.property-naming-strategy=snake_case").run(context -> {
+            JacksonWarmer.Result result = context.getBean(JacksonWarmUpInitializer.class).getResult();
+            // 配置包下的全部类与应用包下带注解的类
+            assertEquals(2, result.warmed());
+            assertTrue(result.failed().isEmpty());
+            long misses = JacksonUtils.getCache().getStats().missCount();
+            JacksonUtils.toJson(new AnnotatedDto());
+            JacksonUtils.fromJson("{}", PlainDto.class);
+            assertEquals(misses, JacksonUtils.getCache().getStats().missCount());
+            // 命名配置的缓存同样被预热
+            assertEquals(2, context.getBean(JacksonWarmUpInitializer.class).getProfileResults().get("snake").warmed());
+            JacksonProfile snake = JacksonUtils.profile("snake");
+            long profileMisses = snake.getCache().getStats().missCount();
+            snake.toJson(new AnnotatedDto());
+            assertEquals(profileMisses, snake.getCache().getStats().missCount());
+        });
+        contextRunner.run(context -> assertTrue(context.getBeansOfType(JacksonWarmUpInitializer.class).isEmpty()));
+    }
+
+    @Test
+    void testAotReflectionHints() {
+        contextRunner.withUserConfiguration(WarmUpTestConfiguration.class)
+                .withPropertyValues("y-frame.jackson.warm-up.packages=com.opsdevkit.autoconfigure.jackson.warmup.plain")
+                .run(context -> {
+                    BeanFactoryInitializationAotContribution contribution =
+                            new JacksonWarmUpAotProcessor().processAheadOfTime(context.getBeanFactory());
+                    assertNotNull(contribution);
+                    DefaultGenerationContext generationContext = new DefaultGenerationContext(
+                            new ClassNameGenerator(ClassName.get(getClass())),
+                            new InMemoryGeneratedFiles());
+                    contribution.applyTo(generationContext, null);
+                    RuntimeHints hints = generationContext.getRuntimeHints();
+                    for (Class<?> type : List.of(AnnotatedDto.class, PlainDto.class)) {
+                        assertTrue(RuntimeHintsPredicates.reflection().onType(type).test(hints), type.getName());
+                    }
+                });
+    }
+
+    @Test
+    void testRestoresDefaultOnClose() {
+        ObjectMapper before = JacksonUtils.getObjectMapper();
+        contextRunner.run(context -> assertNotSame(before, JacksonUtils.getObjectMapper()));
+        assertSame(before, JacksonUtils.getObjectMapper());
+    }
+
+    @Test
+    void testDisabled() {
+        contextRunner.withPropertyValues("y-frame.jackson.enabled=false")
+                .run(context -> assertTrue(context.getBeansOfType(JacksonUtilsInitializer.class).isEmpty()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.opsdevkit.autoconfigure.jackson.warmup;
+
+import com.opsdevkit.autoconfigure.core.jackson.JacksonWarmUp;
+
+@JacksonWarmUp
+public class AnnotatedDto {
+    public Long id;
+    public String name;
+}
@@ -0,0 +1,9 @@
+package com.opsdevkit.autoconfigure.jackson.warmup;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@AutoConfigurationPackage
+public class WarmUpTestConfiguration {
+}
@@ -0,0 +1,5 @@
+package com.opsdevkit.autoconfigure.jackson.warmup.plain;
+
+public class PlainDto {
+    public String value;
+}
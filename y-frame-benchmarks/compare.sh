@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+#
+# 比较两个提交的JMH基准结果
+# 用法: y-frame-benchmarks/compare.sh <基准提交> <目标提交> [JMH参数...]
+#
+set -euo pipefail
+
+if [ $# -lt 2 ]; then
+    echo "usage: $0 <base-commit> <target-commit> [jmh-args...]" >&2
+    exit 1
+fi
+
+base=$1
+target=$2
+shift 2
+
+root=$(git rev-parse --show-toplevel)
+work=$(mktemp -d)
+echo "results: $work"
+
+run() {
+    local name=$1 rev=$2
+    shift 2
+    git -C "$root" worktree add --detach --force "$work/$name" "$rev" >/dev/null
+    (cd "$work/$name" && mvn -B -q -DskipTests -pl y-frame-benchmarks -am package)
+    java -Duser.language=en -jar "$work/$name/y-frame-benchmarks/target/benchmarks.jar" \
+        -rf csv -rff "$work/$name.csv" "$@"
+    git -C "$root" worktree remove --force "$work/$name"
+}
+
+run base "$base" "$@"
+run target "$target" "$@"
+
+# CSV列: Benchmark,Mode,Threads,Samples,Score,Score Error (99.9%),Unit,Param: ...
+awk -F',' '
+    function key(   k, i) {
+        k = $1
+        sub(/^com\.opsdevkit\.benchmarks\./, "", k)
+        for (i = 8; i <= NF; i++) k = k " " $i
+        return k
+    }
+    FNR == 1 { next }
+    { gsub(/"/, "") }
+    NR == FNR { score[key()] = $5; next }
+    (key() in score) {
+        b = score[key()]
+        delta = b == 0 ? 0 : ($5 - b) / b * 100
+        printf "%-70s %14.3f %14.3f %-10s %+8.2f%%\n", key(), b, $5, $7, delta
+    }
+' "$work/base.csv" "$work/target.csv"
@@ -0,0 +1,86 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonModules;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BlackbirdBenchmark
+ * 对比反射访问器与Blackbird生成的访问器在代表性DTO上的序列化、反序列化吞吐量
+ *
+ * @author agent
+ * @since 2026/10/17 01:03
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlackbirdBenchmark {
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    @Param({"SMALL", "MEDIUM"})
+    public Payloads.Size size;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private Payloads.Order order;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = JacksonUtils.createDefaultObjectMapper();
+        if (blackbird && !JacksonModules.registerBlackbird(mapper)) {
+            throw new IllegalStateException("Blackbird module is not available");
+        }
+        writer = mapper.writerFor(Payloads.Order.class);
+        reader = mapper.readerFor(Payloads.Order.class);
+        order = Payloads.order(size);
+        json = writer.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Payloads.Order deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
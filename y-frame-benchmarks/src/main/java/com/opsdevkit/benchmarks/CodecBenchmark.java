@@ -0,0 +1,99 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.benchmarks;
+
+import com.opsdevkit.autoconfigure.core.jackson.JacksonCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CodecBenchmark
+ * 各JacksonCodec在不同负载规模下的编码与解码吞吐量。
+ * 直接运行main方法输出各格式的编码后字节数
+ *
+ * @author agent
+ * @since 2026/10/17 01:30
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// msgpack仅在默认字符集为UTF-8时注册
+@Fork(value = 1, jvmArgsAppend = "-Dfile.encoding=UTF-8")
+public class CodecBenchmark {
+
+    @Param({JacksonCodec.JSON, JacksonCodec.SMILE, JacksonCodec.CBOR, JacksonCodec.MSGPACK})
+    public String codec;
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payloads.Size size;
+
+    private JacksonCodec jacksonCodec;
+    private Payloads.Order order;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        jacksonCodec = JacksonCodec.of(codec);
+        order = Payloads.order(size);
+        encoded = jacksonCodec.encode(order);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return jacksonCodec.encode(order);
+    }
+
+    @Benchmark
+    public Payloads.Order decode() {
+        return jacksonCodec.decode(encoded, Payloads.Order.class);
+    }
+
+    /**
+     * 输出各格式、各负载规模的编码后字节数
+     *
+     * @param args 未使用
+     */
+    public static void main(String[] args) {
+        List<String> names = List.of(JacksonCodec.JSON, JacksonCodec.SMILE, JacksonCodec.CBOR, JacksonCodec.MSGPACK);
+        System.out.printf("%-8s", "size");
+        names.forEach(name -> System.out.printf("%10s", name));
+        System.out.println();
+        for (Payloads.Size size : Payloads.Size.values()) {
+            Payloads.Order order = Payloads.order(size);
+            System.out.printf("%-8s", size);
+            for (String name : names) {
+                String bytes = JacksonCodec.isAvailable(name) ? String.valueOf(JacksonCodec.of(name).encode(order).length) : "-";
+                System.out.printf("%10s", bytes);
+            }
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.benchmarks;
+
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonUtilsBenchmark
+ * JacksonUtils各入口在不同负载规模下的吞吐量，覆盖字符串输入与非字符串对象输入两条读取路径。
+ * 配合-prof gc可得到每次操作的分配量（gc.alloc.rate.norm）
+ *
+ * @author agent
+ * @since 2026/10/17 01:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonUtilsBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public Payloads.Size size;
+
+    private Payloads.Order order;
+    private String orderJson;
+    private Map<String, Object> orderMap;
+    private List<Payloads.LineItem> items;
+    private String itemsJson;
+    private List<Map<String, Object>> itemMaps;
+
+    @Setup
+    public void setUp() {
+        order = Payloads.order(size);
+        orderJson = JacksonUtils.toJson(order);
+        orderMap = JacksonUtils.fromMap(orderJson);
+        items = order.getItems();
+        itemsJson = JacksonUtils.toJson(items);
+        itemMaps = JacksonUtils.fromListMap(itemsJson);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JacksonUtils.toJson(order);
+    }
+
+    @Benchmark
+    public byte[] toJsonBytes() {
+        return JacksonUtils.toJsonBytes(order);
+    }
+
+    @Benchmark
+    public Payloads.Order fromJsonString() {
+        return JacksonUtils.fromJson(orderJson, Payloads.Order.class);
+    }
+
+    @Benchmark
+    public Payloads.Order fromJsonObject() {
+        return JacksonUtils.fromJson(orderMap, Payloads.Order.class);
+    }
+
+    @Benchmark
+    public List<Payloads.LineItem> fromListString() {
+        return JacksonUtils.fromList(itemsJson, Payloads.LineItem.class);
+    }
+
+    @Benchmark
+    public List<Payloads.LineItem> fromListObject() {
+        return JacksonUtils.fromList(itemMaps, Payloads.LineItem.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> fromMapString() {
+        return JacksonUtils.fromMap(orderJson);
+    }
+
+    @Benchmark
+    public Map<String, Object> fromMapObject() {
+        return JacksonUtils.fromMap(order);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> fromListMapString() {
+        return JacksonUtils.fromListMap(itemsJson);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> fromListMapObject() {
+        return JacksonUtils.fromListMap(items);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.benchmarks;
+
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MapFootprint
+ * 比较fromListMap与fromListMapCompact结果的堆占用。以JOL遍历对象图统计总字节数，
+ * 两种表示中相同的字符串值各自计入，差异来自Entry对象、装箱数值与键布局
+ * <p>
+ * 用法：java -cp benchmarks.jar com.opsdevkit.benchmarks.MapFootprint [文档数] [SMALL|MEDIUM|LARGE]
+ *
+ * @author agent
+ * @since 2026/10/17 01:23
+ */
+public final class MapFootprint {
+
+    private MapFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        Payloads.Size size = args.length > 1 ? Payloads.Size.valueOf(args[1]) : Payloads.Size.SMALL;
+        List<Payloads.Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Payloads.Order order = Payloads.order(size);
+            order.setId(order.getId() + i);
+            orders.add(order);
+        }
+        byte[] json = JacksonUtils.toJsonBytes(orders);
+
+        List<Map<String, Object>> standard = JacksonUtils.fromListMap(json);
+        List<Map<String, Object>> compact = JacksonUtils.fromListMapCompact(json);
+        if (!standard.equals(compact)) {
+            throw new IllegalStateException("Representations differ");
+        }
+
+        long standardBytes = GraphLayout.parseInstance(standard).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compact).totalSize();
+        System.out.printf("documents: %d, payload: %s, json: %d bytes%n", count, size, json.length);
+        System.out.printf("%-10s %14s %12s%n", "layout", "total bytes", "bytes/doc");
+        System.out.printf("%-10s %14d %12d%n", "standard", standardBytes, standardBytes / count);
+        System.out.printf("%-10s %14d %12d%n", "compact", compactBytes, compactBytes / count);
+        System.out.printf("saving: %.1f%%%n", 100.0 * (standardBytes - compactBytes) / standardBytes);
+    }
+}
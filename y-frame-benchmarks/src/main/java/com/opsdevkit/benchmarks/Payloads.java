@@ -0,0 +1,150 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.benchmarks;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Payloads
+ * 基准测试使用的代表性DTO与不同规模的负载
+ *
+ * @author agent
+ * @since 2026/10/17 01:03
+ */
+public final class Payloads {
+
+    private Payloads() {
+    }
+
+    /**
+     * 负载规模
+     */
+    public enum Size {
+        /**
+         * 单个订单，1个明细
+         */
+        SMALL(1),
+        /**
+         * 单个订单，20个明细
+         */
+        MEDIUM(20),
+        /**
+         * 单个订单，1000个明细
+         */
+        LARGE(1000);
+
+        private final int items;
+
+        Size(int items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * 创建指定规模的订单
+     *
+     * @param size 负载规模
+     * @return 订单
+     */
+    public static Order order(Size size) {
+        Order order = new Order();
+        order.setId(10_000_001L);
+        order.setOrderNo("SO-2025-0622-0001");
+        order.setStatus("PAID");
+        order.setCurrency("CNY");
+        order.setRemark("请在工作日送达");
+        order.setCreatedAt(Instant.parse("2025-06-22T05:20:00Z").toEpochMilli());
+        order.setPaid(true);
+        Customer customer = new Customer();
+        customer.setId(42L);
+        customer.setName("张三");
+        customer.setEmail("zhangsan@example.com");
+        customer.setPhone("13800000000");
+        customer.setLevel(3);
+        order.setCustomer(customer);
+        List<LineItem> items = new ArrayList<>(size.items);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < size.items; i++) {
+            LineItem item = new LineItem();
+            item.setSku("SKU-" + (100_000 + i));
+            item.setName("商品-" + i);
+            item.setQuantity(1 + i % 5);
+            item.setPrice(BigDecimal.valueOf(1999 + i, 2));
+            item.setDiscount(i % 3 == 0 ? 0.1 : 0.0);
+            item.setTags(List.of("tag-a", "tag-" + (i % 7)));
+            items.add(item);
+            total = total.add(item.getPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+        }
+        order.setItems(items);
+        order.setTotal(total);
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("channel", "app");
+        attributes.put("region", "cn-east");
+        order.setAttributes(attributes);
+        return order;
+    }
+
+    /**
+     * 订单
+     */
+    @Data
+    public static class Order {
+        private Long id;
+        private String orderNo;
+        private String status;
+        private String currency;
+        private String remark;
+        private long createdAt;
+        private boolean paid;
+        private BigDecimal total;
+        private Customer customer;
+        private List<LineItem> items;
+        private Map<String, String> attributes;
+    }
+
+    /**
+     * 客户
+     */
+    @Data
+    public static class Customer {
+        private Long id;
+        private String name;
+        private String email;
+        private String phone;
+        private int level;
+    }
+
+    /**
+     * 订单明细
+     */
+    @Data
+    public static class LineItem {
+        private String sku;
+        private String name;
+        private int quantity;
+        private BigDecimal price;
+        private double discount;
+        private List<String> tags;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.benchmarks;
+
+import com.opsdevkit.autoconfigure.core.jackson.JacksonRecyclerPools;
+import com.opsdevkit.autoconfigure.core.jackson.JacksonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RecyclerPoolBenchmark
+ * 不同BufferRecycler池策略在不同线程模型下的吞吐量与分配量。每次操作提交一批请求，
+ * 每个请求执行一次toJson与一次fromJson，分数按单个请求计。
+ * <p>
+ * POOL为固定大小的平台线程池，线程长期存活；THREAD_PER_TASK为每个请求一个新的平台线程；
+ * VIRTUAL为每个请求一个虚拟线程，需要JDK 21+，更早的JDK上该参数组合在初始化时失败，其余组合不受影响。
+ * <p>
+ * -prof gc只统计存活线程的分配，请求线程用完即退出时结果偏低，因此分配量由main方法单独测量：
+ * JDK 21+按全部线程（含已结束线程）的累计分配计算，更早的JDK在每个请求线程内计量
+ *
+ * @author agent
+ * @since 2026/10/17 01:57
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecyclerPoolBenchmark {
+
+    /**
+     * 每次操作提交的请求数
+     */
+    private static final int BATCH = 64;
+
+    /**
+     * 线程模型
+     */
+    public enum Threads {
+        POOL, THREAD_PER_TASK, VIRTUAL
+    }
+
+    @Param({"THREAD_LOCAL", "SHARED", "STRIPED", "NONE"})
+    public JacksonRecyclerPools.Strategy strategy;
+
+    @Param({"POOL", "THREAD_PER_TASK", "VIRTUAL"})
+    public Threads threads;
+
+    @Param({"SMALL", "MEDIUM"})
+    public Payloads.Size size;
+
+    private ExecutorService executor;
+    private Payloads.Order order;
+    private Callable<Payloads.Order> request;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        JacksonUtils.setObjectMapper(JacksonRecyclerPools.apply(JacksonUtils.createDefaultObjectMapper(), strategy));
+        executor = switch (threads) {
+            case POOL -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            // 空闲时间为0，线程执行完一个请求即退出
+            case THREAD_PER_TASK -> new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.SECONDS,
+                    new SynchronousQueue<>());
+            case VIRTUAL -> (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        };
+        order = Payloads.order(size);
+        request = () -> JacksonUtils.fromJson(JacksonUtils.toJson(order), Payloads.Order.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        JacksonUtils.setObjectMapper(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Payloads.Order> toJsonFromJson() throws InterruptedException, ExecutionException {
+        return runBatch(request);
+    }
+
+    private List<Payloads.Order> runBatch(Callable<Payloads.Order> task) throws InterruptedException, ExecutionException {
+        List<Future<Payloads.Order>> futures = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            futures.add(executor.submit(task));
+        }
+        List<Payloads.Order> results = new ArrayList<>(BATCH);
+        for (Future<Payloads.Order> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    /**
+     * 输出各策略与线程模型下每个请求的平均分配字节数
+     *
+     * @param args 可选：每个组合测量的请求数，默认20000；负载规模，默认MEDIUM
+     * @throws Exception 执行失败时抛出
+     */
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        Payloads.Size size = args.length > 1 ? Payloads.Size.valueOf(args[1]) : Payloads.Size.MEDIUM;
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Method totalAllocated = totalAllocatedMethod();
+        System.out.printf("%-16s %-14s %12s%n", "threads", "strategy", "B/request");
+        for (Threads threads : Threads.values()) {
+            for (JacksonRecyclerPools.Strategy strategy : JacksonRecyclerPools.Strategy.values()) {
+                RecyclerPoolBenchmark benchmark = new RecyclerPoolBenchmark();
+                benchmark.threads = threads;
+                benchmark.strategy = strategy;
+                benchmark.size = size;
+                try {
+                    benchmark.setUp();
+                } catch (ReflectiveOperationException e) {
+                    System.out.printf("%-16s %-14s %12s%n", threads, strategy, "unsupported");
+                    continue;
+                }
+                try {
+                    LongAdder perTask = new LongAdder();
+                    Callable<Payloads.Order> measured = totalAllocated != null ? benchmark.request : () -> {
+                        long before = threadBean.getCurrentThreadAllocatedBytes();
+                        Payloads.Order result = benchmark.request.call();
+                        perTask.add(threadBean.getCurrentThreadAllocatedBytes() - before);
+                        return result;
+                    };
+                    int batches = Math.max(1, requests / BATCH);
+                    for (int i = 0; i < batches; i++) {
+                        benchmark.runBatch(measured);
+                    }
+                    perTask.reset();
+                    long before = totalAllocated != null ? (long) totalAllocated.invoke(threadBean) : 0;
+                    for (int i = 0; i < batches; i++) {
+                        benchmark.runBatch(measured);
+                    }
+                    long allocated = totalAllocated != null
+                            ? (long) totalAllocated.invoke(threadBean) - before : perTask.sum();
+                    System.out.printf("%-16s %-14s %12d%n", threads, strategy, allocated / ((long) batches * BATCH));
+                } finally {
+                    benchmark.tearDown();
+                }
+            }
+        }
+    }
+
+    /**
+     * ThreadMXBean.getTotalThreadAllocatedBytes（JDK 21+），不支持时返回null
+     */
+    private static Method totalAllocatedMethod() {
+        try {
+            Method method = com.sun.management.ThreadMXBean.class.getMethod("getTotalThreadAllocatedBytes");
+            return (long) method.invoke(ManagementFactory.getThreadMXBean()) >= 0 ? method : null;
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+}
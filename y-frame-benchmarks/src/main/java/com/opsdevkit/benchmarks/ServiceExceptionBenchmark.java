@@ -0,0 +1,116 @@
+/*
+ Copyright 2025-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.opsdevkit.benchmarks;
+
+import com.opsdevkit.autoconfigure.core.exception.FlyweightExceptions;
+import com.opsdevkit.autoconfigure.core.exception.ServiceException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ServiceExceptionBenchmark
+ * ServiceException各工厂方法的创建开销，包括有无异常原因两种情况，以及轻量实例与享元共享实例。
+ * throw开头的基准模拟业务代码抛出并捕获异常的完整过程，配合-t与-prof gc可观察多线程下的分配率。
+ * 调用栈深度影响填充栈轨迹的开销，基准在较浅的JMH调用栈上运行，实际业务中的开销通常更高
+ *
+ * @author agent
+ * @since 2026/10/17 01:05
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceExceptionBenchmark {
+
+    private static final Integer CODE = 200001;
+
+    private static final Integer FLYWEIGHT_CODE = 429;
+
+    private final RuntimeException cause = new IllegalStateException("cause");
+
+    @Setup
+    public void setUp() {
+        FlyweightExceptions.register(List.of(FLYWEIGHT_CODE));
+    }
+
+    @TearDown
+    public void tearDown() {
+        FlyweightExceptions.clear();
+    }
+
+    @Benchmark
+    public ServiceException ofCode() {
+        return ServiceException.of(CODE);
+    }
+
+    @Benchmark
+    public ServiceException ofCodeAndMsg() {
+        return ServiceException.of(CODE, "msg");
+    }
+
+    @Benchmark
+    public ServiceException ofCodeAndCause() {
+        return ServiceException.of(CODE, cause);
+    }
+
+    @Benchmark
+    public ServiceException ofCodeMsgAndCause() {
+        return ServiceException.of(CODE, "msg", cause);
+    }
+
+    @Benchmark
+    public ServiceException lightweightCode() {
+        return ServiceException.lightweight(CODE);
+    }
+
+    @Benchmark
+    public ServiceException ofFlyweightCode() {
+        return ServiceException.of(FLYWEIGHT_CODE);
+    }
+
+    @Benchmark
+    public int throwOfCode() {
+        return throwAndCatch(CODE);
+    }
+
+    @Benchmark
+    public int throwFlyweightCode() {
+        return throwAndCatch(FLYWEIGHT_CODE);
+    }
+
+    private static int throwAndCatch(Integer code) {
+        try {
+            throw ServiceException.of(code);
+        } catch (ServiceException e) {
+            return e.getCode();
+        }
+    }
+}